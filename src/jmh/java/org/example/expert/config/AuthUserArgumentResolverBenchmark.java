@@ -0,0 +1,34 @@
+package org.example.expert.config;
+
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.user.enums.UserRole;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.concurrent.TimeUnit;
+
+// JwtFilter 가 넣어 둔 request attribute 를 꺼내는 경로 (토큰을 다시 파싱하지 않는지 확인용)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AuthUserArgumentResolverBenchmark {
+
+    private final AuthUserArgumentResolver resolver = new AuthUserArgumentResolver();
+    private ServletWebRequest webRequest;
+
+    @Setup
+    public void setUp() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/todos");
+        request.setAttribute(JwtFilter.AUTH_USER_ATTRIBUTE, new AuthUser(1L, "a@a.com", UserRole.USER));
+        webRequest = new ServletWebRequest(request);
+    }
+
+    @Benchmark
+    public Object resolveArgument() {
+        return resolver.resolveArgument(null, null, webRequest, null);
+    }
+}
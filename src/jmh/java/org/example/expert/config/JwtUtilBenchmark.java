@@ -0,0 +1,55 @@
+package org.example.expert.config;
+
+import io.jsonwebtoken.Claims;
+import org.example.expert.domain.user.enums.UserRole;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+// 토큰 발급, claims 캐시 hit(요청마다 타는 경로), 캐시 miss(서명 검증) 비교
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtUtilBenchmark {
+
+    private JwtUtil jwtUtil;
+    private JwtUtil uncachedJwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = jwtUtil(10_000);
+        // 최대 크기 0 이면 캐시에 남지 않으므로 매번 서명을 검증
+        uncachedJwtUtil = jwtUtil(0);
+        token = jwtUtil.substringToken(jwtUtil.createToken(1L, "a@a.com", UserRole.USER, 0));
+    }
+
+    @Benchmark
+    public String createToken() {
+        return jwtUtil.createToken(1L, "a@a.com", UserRole.USER, 0);
+    }
+
+    @Benchmark
+    public Claims extractClaimsCached() {
+        return jwtUtil.extractClaims(token);
+    }
+
+    @Benchmark
+    public Claims extractClaimsUncached() {
+        return uncachedJwtUtil.extractClaims(token);
+    }
+
+    private static JwtUtil jwtUtil(long claimsCacheMaximumSize) {
+        JwtUtil jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secretKey",
+                Base64.getEncoder().encodeToString("0123456789abcdef0123456789abcdef".getBytes()));
+        ReflectionTestUtils.setField(jwtUtil, "claimsCacheMaximumSize", claimsCacheMaximumSize);
+        jwtUtil.init();
+        return jwtUtil;
+    }
+}
@@ -0,0 +1,79 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.domain.todo.dto.response.TodoCursorResponse;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// DB 를 빼고 서비스의 조회 결과 -> 응답 DTO 변환 비용만 측정
+// getTodos 는 DTO projection + 캐시된 전체 개수, getTodosByCursor 는 엔티티 -> TodoResponse 변환과 커서 인코딩
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TodoServiceBenchmark {
+
+    private static final long TOTAL_COUNT = 100_000;
+
+    @Param({"10", "100"})
+    private int size;
+
+    private TodoService todoService;
+
+    @Setup
+    public void setUp() {
+        User user = new User("a@a.com", "password", UserRole.USER);
+        ReflectionTestUtils.setField(user, "id", 1L);
+        LocalDateTime now = LocalDateTime.now();
+
+        List<TodoResponse> responses = new ArrayList<>(size);
+        List<Todo> todos = new ArrayList<>(size + 1);
+        for (int i = 0; i <= size; i++) {
+            Todo todo = new Todo("title" + i, "contents" + i, "Sunny", user);
+            ReflectionTestUtils.setField(todo, "id", (long) (size - i + 1));
+            ReflectionTestUtils.setField(todo, "createdAt", now.minusMinutes(i));
+            ReflectionTestUtils.setField(todo, "modifiedAt", now.minusMinutes(i));
+            todos.add(todo);
+            if (i < size) {
+                responses.add(new TodoResponse(todo.getId(), todo.getTitle(), todo.getContents(), todo.getWeather(),
+                        1L, "a@a.com", todo.getCreatedAt(), todo.getModifiedAt()));
+            }
+        }
+
+        // Mockito 는 호출마다 기록용 객체를 할당하므로 필요한 메서드만 고정 값을 돌려주는 proxy 사용
+        TodoRepository todoRepository = (TodoRepository) Proxy.newProxyInstance(
+                TodoRepository.class.getClassLoader(),
+                new Class<?>[]{TodoRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findTodoResponses" -> responses;
+                    case "findFirstPageWithUser" -> todos;
+                    case "count" -> TOTAL_COUNT;
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+
+        todoService = new TodoService(todoRepository, null, new TodoCountProvider(todoRepository), null, null);
+    }
+
+    @Benchmark
+    public Page<TodoResponse> getTodos() {
+        return todoService.getTodos(1, size, false);
+    }
+
+    @Benchmark
+    public TodoCursorResponse getTodosByCursor() {
+        return todoService.getTodosByCursor(null, size);
+    }
+}
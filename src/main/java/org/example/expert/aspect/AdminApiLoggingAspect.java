@@ -3,12 +3,12 @@ package org.example.expert.aspect;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.http.HttpServletRequest;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
-import org.example.expert.config.JwtUtil;
+import org.example.expert.config.JwtFilter;
+import org.example.expert.domain.common.dto.AuthUser;
 import org.springframework.stereotype.Component;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
@@ -18,17 +18,15 @@ import java.time.LocalDateTime;
 @Slf4j
 @Aspect
 @Component
-@RequiredArgsConstructor
 public class AdminApiLoggingAspect {
 
-    private final JwtUtil jwtUtil;
-
-    @Around("execution(* org.example.expert.domain.comment.controller.CommentAdminController.deleteComment(..)) || " +
+    // bulk 삭제도 요청 하나당 로그 한 쌍, 응답에 삭제된 행 수가 포함됨
+    @Around("execution(* org.example.expert.domain.comment.controller.CommentAdminController.delete*(..)) || " +
             "execution(* org.example.expert.domain.user.controller.UserAdminController.changeUserRole(..))")
     public Object logAdminApi(ProceedingJoinPoint joinPoint) throws Throwable {
         HttpServletRequest request = ((ServletRequestAttributes) RequestContextHolder.getRequestAttributes()).getRequest();
-        String token = request.getHeader("Authorization");
-        Long userId = jwtUtil.getUserId(token);
+        AuthUser authUser = (AuthUser) request.getAttribute(JwtFilter.AUTH_USER_ATTRIBUTE);
+        Long userId = authUser != null ? authUser.getId() : null;
         String uri = request.getRequestURI();
 
         ObjectMapper mapper = new ObjectMapper();
@@ -1,30 +1,172 @@
 package org.example.expert.client;
 
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
 import org.example.expert.client.dto.WeatherDto;
+import org.example.expert.client.dto.WeatherSnapshot;
 import org.example.expert.domain.common.exception.ServerException;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
 
+@Slf4j
 @Component
 public class WeatherClient {
 
     private final RestTemplate restTemplate;
+    private final CircuitBreaker circuitBreaker;
+    private final Timer fetchTimer;
+    // 갱신 실패 시 마지막으로 받아온 날씨 데이터를 사용할 수 있는 시간
+    private final Duration staleTtl;
+    // 날씨 데이터를 전혀 얻을 수 없을 때 사용할 값, 비어 있으면 예외를 그대로 던짐
+    private final String fallbackWeather;
+    private final URI weatherApiUri;
 
-    public WeatherClient(RestTemplateBuilder builder) {
-        this.restTemplate = builder.build();
+    private final AtomicReference<WeatherSnapshot> snapshot = new AtomicReference<>();
+    // 진행 중인 fetch, 동시에 miss 가 나도 요청은 하나만 보냄
+    private final AtomicReference<CompletableFuture<WeatherSnapshot>> inFlight = new AtomicReference<>();
+
+    public WeatherClient(
+            RestTemplateBuilder builder,
+            ClientHttpRequestFactory weatherRequestFactory,
+            CircuitBreaker weatherCircuitBreaker,
+            MeterRegistry meterRegistry,
+            @Value("${weather.stale-ttl:PT6H}") Duration staleTtl,
+            @Value("${weather.fallback:}") String fallbackWeather,
+            // 부하 테스트 등에서 로컬 대체 서버를 쓰기 위해 변경 가능
+            @Value("${weather.base-url:https://f-api.github.io}") String baseUrl
+    ) {
+        this.restTemplate = builder.requestFactory(() -> weatherRequestFactory).build();
+        this.circuitBreaker = weatherCircuitBreaker;
+        this.fetchTimer = Timer.builder("weather.client.fetch")
+                .description("weather.json 다운로드 및 파싱 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.staleTtl = staleTtl;
+        this.fallbackWeather = fallbackWeather;
+        this.weatherApiUri = UriComponentsBuilder
+                .fromUriString(baseUrl)
+                .path("/f-api/weather.json")
+                .encode()
+                .build()
+                .toUri();
     }
 
     public String getTodayWeather() {
+        return getWeather(LocalDate.now());
+    }
+
+    // weather.json 은 1년치 데이터이므로 오늘 받아온 snapshot 으로 지난 날짜도 조회 가능
+    public String getWeather(LocalDate date) {
+        WeatherSnapshot current;
+        try {
+            current = currentSnapshot();
+        } catch (RuntimeException e) {
+            if (!StringUtils.hasText(fallbackWeather)) {
+                throw e;
+            }
+            log.warn("Weather fetch failed, serving fallback weather: {}", e.getMessage());
+            return fallbackWeather;
+        }
+
+        String weather = current.getWeather(date);
+        if (weather == null) {
+            throw new ServerException(date + "에 해당하는 날씨 데이터를 찾을 수 없습니다.");
+        }
+        return weather;
+    }
+
+    // 나중에 날씨를 채우는 작업용, fallback 을 쓰지 않고 데이터에 없는 날짜는 empty
+    // 날씨 데이터를 전혀 얻을 수 없으면 예외
+    public Optional<String> findRecordedWeather(LocalDate date) {
+        return Optional.ofNullable(currentSnapshot().getWeather(date));
+    }
+
+    private WeatherSnapshot currentSnapshot() {
+        LocalDate today = LocalDate.now();
+        WeatherSnapshot current = snapshot.get();
+        if (current != null && current.isValidFor(today)) {
+            return current;
+        }
+
+        try {
+            return load(today, today);
+        } catch (RuntimeException e) {
+            if (current != null && current.isFetchedWithin(staleTtl, Instant.now())) {
+                log.warn("Weather fetch failed, serving data fetched at {}: {}", current.getFetchedAt(), e.getMessage());
+                return current;
+            }
+            throw e;
+        }
+    }
+
+    // 자정이 되기 전에 다음 날까지 유효한 데이터로 미리 갱신
+    @Scheduled(cron = "${weather.refresh-cron:0 55 23 * * *}")
+    public void refreshBeforeMidnight() {
+        LocalDate today = LocalDate.now();
+        try {
+            load(today, today.plusDays(1));
+        } catch (RuntimeException e) {
+            log.warn("Weather refresh failed: {}", e.getMessage());
+        }
+    }
+
+    private WeatherSnapshot load(LocalDate validFrom, LocalDate validThrough) {
+        CompletableFuture<WeatherSnapshot> future = new CompletableFuture<>();
+        CompletableFuture<WeatherSnapshot> existing = inFlight.compareAndExchange(null, future);
+        if (existing != null) {
+            return await(existing);
+        }
+
+        try {
+            // circuit 이 열려 있으면 CallNotPermittedException 으로 바로 실패
+            Map<String, String> weatherByDate = circuitBreaker.executeSupplier(() -> fetchTimer.record(this::fetchWeatherByDate));
+            WeatherSnapshot fetched = new WeatherSnapshot(weatherByDate, validFrom, validThrough, Instant.now());
+            snapshot.set(fetched);
+            future.complete(fetched);
+            return fetched;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.set(null);
+        }
+    }
+
+    private WeatherSnapshot await(CompletableFuture<WeatherSnapshot> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private Map<String, String> fetchWeatherByDate() {
         ResponseEntity<WeatherDto[]> responseEntity =
-                restTemplate.getForEntity(buildWeatherApiUri(), WeatherDto[].class);
+                restTemplate.getForEntity(weatherApiUri, WeatherDto[].class);
 
         if (!HttpStatus.OK.equals(responseEntity.getStatusCode())) {
             throw new ServerException("날씨 데이터를 가져오는데 실패했습니다. 상태 코드: " + responseEntity.getStatusCode());
@@ -36,28 +178,10 @@ public class WeatherClient {
             throw new ServerException("날씨 데이터가 없습니다.");
         }
 
-        String today = getCurrentDate();
-
+        Map<String, String> weatherByDate = new HashMap<>(weatherArray.length * 2);
         for (WeatherDto weatherDto : weatherArray) {
-            if (today.equals(weatherDto.getDate())) {
-                return weatherDto.getWeather();
-            }
+            weatherByDate.put(weatherDto.getDate(), weatherDto.getWeather());
         }
-
-        throw new ServerException("오늘에 해당하는 날씨 데이터를 찾을 수 없습니다.");
-    }
-
-    private URI buildWeatherApiUri() {
-        return UriComponentsBuilder
-                .fromUriString("https://f-api.github.io")
-                .path("/f-api/weather.json")
-                .encode()
-                .build()
-                .toUri();
-    }
-
-    private String getCurrentDate() {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MM-dd");
-        return LocalDate.now().format(formatter);
+        return Map.copyOf(weatherByDate);
     }
 }
@@ -0,0 +1,39 @@
+package org.example.expert.client.dto;
+
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+
+@Getter
+public class WeatherSnapshot {
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("MM-dd");
+
+    private final Map<String, String> weatherByDate; // MM-dd -> weather
+    private final LocalDate validFrom;
+    private final LocalDate validThrough;
+    private final Instant fetchedAt;
+
+    public WeatherSnapshot(Map<String, String> weatherByDate, LocalDate validFrom, LocalDate validThrough, Instant fetchedAt) {
+        this.weatherByDate = weatherByDate;
+        this.validFrom = validFrom;
+        this.validThrough = validThrough;
+        this.fetchedAt = fetchedAt;
+    }
+
+    public boolean isValidFor(LocalDate date) {
+        return !date.isBefore(validFrom) && !date.isAfter(validThrough);
+    }
+
+    public boolean isFetchedWithin(Duration duration, Instant now) {
+        return fetchedAt.plus(duration).isAfter(now);
+    }
+
+    public String getWeather(LocalDate date) {
+        return weatherByDate.get(date.format(DATE_FORMATTER));
+    }
+}
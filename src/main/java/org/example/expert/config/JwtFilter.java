@@ -10,7 +10,11 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.auth.service.TokenRevocationRegistry;
+import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.user.enums.UserRole;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
 import java.io.IOException;
 
@@ -18,7 +22,11 @@ import java.io.IOException;
 @RequiredArgsConstructor
 public class JwtFilter implements Filter {
 
+    // 필터에서 한 번 검증한 인증 정보를 interceptor, aspect, controller 가 공유하기 위한 request attribute
+    public static final String AUTH_USER_ATTRIBUTE = "authUser";
+
     private final JwtUtil jwtUtil;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
 
     @Override
     public void init(FilterConfig filterConfig) throws ServletException {
@@ -55,23 +63,30 @@ public class JwtFilter implements Filter {
                 return;
             }
 
-            UserRole userRole = UserRole.valueOf(claims.get("userRole", String.class));
+            long userId = Long.parseLong(claims.getSubject());
+            // 권한/비밀번호 변경 이전에 발급된 토큰은 만료 전이라도 거절
+            if (tokenRevocationRegistry.isRevoked(userId, tokenVersion(claims))) {
+                httpResponse.sendError(HttpServletResponse.SC_UNAUTHORIZED, "무효화된 JWT 토큰입니다.");
+                return;
+            }
 
-            httpRequest.setAttribute("userId", Long.parseLong(claims.getSubject()));
-            httpRequest.setAttribute("email", claims.get("email"));
-            httpRequest.setAttribute("userRole", claims.get("userRole"));
+            AuthUser authUser = new AuthUser(
+                    userId,
+                    claims.get("email", String.class),
+                    UserRole.valueOf(claims.get("userRole", String.class))
+            );
+            httpRequest.setAttribute(AUTH_USER_ATTRIBUTE, authUser);
 
             if (url.startsWith("/admin")) {
                 // 관리자 권한이 없는 경우 403을 반환합니다.
-                if (!UserRole.ADMIN.equals(userRole)) {
+                if (!UserRole.ADMIN.equals(authUser.getUserRole())) {
                     httpResponse.sendError(HttpServletResponse.SC_FORBIDDEN, "관리자 권한이 없습니다.");
                     return;
                 }
-                chain.doFilter(request, response);
-                return;
             }
 
             chain.doFilter(request, response);
+            warnIfParsedMoreThanOnce(url);
         } catch (SecurityException | MalformedJwtException e) {
             log.error("Invalid JWT signature, 유효하지 않는 JWT 서명 입니다.", e);
             httpResponse.sendError(HttpServletResponse.SC_UNAUTHORIZED, "유효하지 않는 JWT 서명입니다.");
@@ -87,6 +102,21 @@ public class JwtFilter implements Filter {
         }
     }
 
+    private int tokenVersion(Claims claims) {
+        return claims.get(JwtUtil.TOKEN_VERSION_CLAIM) instanceof Integer version ? version : 0;
+    }
+
+    private void warnIfParsedMoreThanOnce(String url) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return;
+        }
+        int parseCount = JwtUtil.getParseCount(attributes);
+        if (parseCount > 1) {
+            log.warn("JWT parsed {} times in one request: URI: {}", parseCount, url);
+        }
+    }
+
     @Override
     public void destroy() {
         Filter.super.destroy();
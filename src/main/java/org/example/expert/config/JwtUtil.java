@@ -1,6 +1,11 @@
 package org.example.expert.config;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -11,30 +16,55 @@ import org.example.expert.domain.user.enums.UserRole;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Base64;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j(topic = "JwtUtil")
 @Component
 public class JwtUtil {
 
     private static final String BEARER_PREFIX = "Bearer ";
-    private static final long TOKEN_TIME = 60 * 60 * 1000L; // 60분
+    public static final long TOKEN_TIME = 60 * 60 * 1000L; // 60분
+    // 발급 당시의 User.tokenVersion, 이 claim 이 없는 토큰은 0 으로 봄
+    public static final String TOKEN_VERSION_CLAIM = "ver";
+    // 요청 하나에서 JWT 서명 검증이 몇 번 일어났는지 기록하는 request attribute
+    public static final String PARSE_COUNT_ATTRIBUTE = "jwtParseCount";
 
     @Value("${jwt.secret.key}")
     private String secretKey;
+    // 검증된 claims 캐시 최대 엔트리 수
+    @Value("${jwt.claims-cache.maximum-size:10000}")
+    private long claimsCacheMaximumSize = 10000;
     private Key key;
+    private JwtParser jwtParser;
+    private Cache<String, Claims> claimsCache;
     private final SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.HS256;
 
     @PostConstruct
     public void init() {
         byte[] bytes = Base64.getDecoder().decode(secretKey);
         key = Keys.hmacShaKeyFor(bytes);
+        // parser 는 thread-safe 하므로 한 번만 만들어 재사용
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
+        // 토큰 digest 를 key 로, 토큰의 exp 이전에 만료되는 캐시
+        claimsCache = Caffeine.newBuilder()
+                .maximumSize(claimsCacheMaximumSize)
+                .expireAfter(new ClaimsExpiry())
+                .recordStats()
+                .build();
     }
 
-    public String createToken(Long userId, String email, UserRole userRole) {
+    public String createToken(Long userId, String email, UserRole userRole, int tokenVersion) {
         Date date = new Date();
 
         return BEARER_PREFIX +
@@ -42,6 +72,7 @@ public class JwtUtil {
                         .setSubject(String.valueOf(userId))
                         .claim("email", email)
                         .claim("userRole", userRole)
+                        .claim(TOKEN_VERSION_CLAIM, tokenVersion)
                         .setExpiration(new Date(date.getTime() + TOKEN_TIME))
                         .setIssuedAt(date) // 발급일
                         .signWith(key, signatureAlgorithm) // 암호화 알고리즘
@@ -56,20 +87,57 @@ public class JwtUtil {
     }
 
     public Claims extractClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        countParse();
+        // 캐시에 없을 때만 서명 검증, 검증 실패 예외는 그대로 전파되고 캐시되지 않음
+        return claimsCache.get(digest(token), k -> jwtParser.parseClaimsJws(token).getBody());
+    }
+
+    public CacheStats getClaimsCacheStats() {
+        return claimsCache.stats();
+    }
+
+    private String digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(messageDigest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new ServerException("SHA-256 알고리즘을 사용할 수 없습니다.");
+        }
+    }
+
+    public static int getParseCount(RequestAttributes attributes) {
+        Integer count = (Integer) attributes.getAttribute(PARSE_COUNT_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        return count == null ? 0 : count;
     }
 
-    public String getUserRole(String token) {
-        Claims claims = extractClaims(substringToken(token));
-        return claims.get("userRole", String.class);
+    private void countParse() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return;
+        }
+        attributes.setAttribute(PARSE_COUNT_ATTRIBUTE, getParseCount(attributes) + 1, RequestAttributes.SCOPE_REQUEST);
     }
 
-    public Long getUserId(String token) {
-        Claims claims = extractClaims(substringToken(token));
-        return Long.parseLong(claims.getSubject());
+    private static class ClaimsExpiry implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            Date expiration = claims.getExpiration();
+            if (expiration == null) {
+                return TimeUnit.MILLISECONDS.toNanos(TOKEN_TIME);
+            }
+            long remainingMillis = expiration.getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, Math.min(remainingMillis, TOKEN_TIME)));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 }
@@ -1,17 +1,152 @@
 package org.example.expert.config;
 
 import at.favre.lib.crypto.bcrypt.BCrypt;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+// bcrypt 는 CPU 를 오래 쓰므로 요청 스레드가 아니라 코어 수 크기의 passwordHashExecutor 에서 실행
+// 대기열이 가득 차면 기다리지 않고 503 으로 돌려보내 다른 API 가 CPU 를 쓸 수 있도록 함
 @Component
 public class PasswordEncoder {
 
+    private static final String BUSY_MESSAGE = "요청이 많아 잠시 후 다시 시도해주세요.";
+    private static final long BULK_RETRY_INTERVAL_MILLIS = 10;
+
+    private final Executor passwordHashExecutor;
+    private final Duration timeout;
+    private final long retryAfterSeconds;
+    private final Timer queueWaitTimer;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejectedCounter;
+
+    // encodeAll 이 동시에 넣는 작업 수, 0 이면 CPU 코어 수
+    @Value("${password.hash.bulk-parallelism:0}")
+    private int bulkParallelism;
+
+    public PasswordEncoder(
+            @Qualifier("passwordHashExecutor") Executor passwordHashExecutor,
+            MeterRegistry meterRegistry,
+            @Value("${password.hash.timeout:PT5S}") Duration timeout,
+            @Value("${password.hash.retry-after:PT1S}") Duration retryAfter
+    ) {
+        this.passwordHashExecutor = passwordHashExecutor;
+        this.timeout = timeout;
+        this.retryAfterSeconds = Math.max(1, retryAfter.toSeconds());
+        this.queueWaitTimer = Timer.builder("password.hash.queue.wait")
+                .description("bcrypt 작업이 대기열에서 기다린 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.encodeTimer = hashTimer(meterRegistry, "encode");
+        this.matchesTimer = hashTimer(meterRegistry, "matches");
+        this.rejectedCounter = Counter.builder("password.hash.rejected")
+                .description("대기열이 가득 차 거절된 bcrypt 작업 수")
+                .register(meterRegistry);
+    }
+
     public String encode(String rawPassword) {
-        return BCrypt.withDefaults().hashToString(BCrypt.MIN_COST, rawPassword.toCharArray());
+        return hash(encodeTimer, () -> bcrypt(rawPassword));
+    }
+
+    // 대량 가입용, 같은 passwordHashExecutor 에서 코어 수 만큼 병렬로 해시
+    // 한 번에 bulkParallelism 개까지만 넣어 로그인 요청이 들어갈 대기열 자리를 남기고,
+    // 그래도 거절되면 timeout 동안 자리가 날 때까지 기다렸다가 넘으면 encode 와 같이 503
+    public List<String> encodeAll(List<String> rawPasswords) {
+        int parallelism = bulkParallelism > 0 ? bulkParallelism : Runtime.getRuntime().availableProcessors();
+        Semaphore inFlight = new Semaphore(parallelism);
+        List<CompletableFuture<String>> futures = new ArrayList<>(rawPasswords.size());
+
+        for (String rawPassword : rawPasswords) {
+            Supplier<String> task = () -> encodeTimer.record(() -> bcrypt(rawPassword));
+            try {
+                if (!inFlight.tryAcquire(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                    throw new ServiceUnavailableException(BUSY_MESSAGE, retryAfterSeconds);
+                }
+                futures.add(submitWithinTimeout(task).whenComplete((hash, e) -> inFlight.release()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ServerException("비밀번호 처리 중 인터럽트가 발생했습니다.");
+            }
+        }
+
+        return futures.stream().map(CompletableFuture::join).toList();
+    }
+
+    private CompletableFuture<String> submitWithinTimeout(Supplier<String> task) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (true) {
+            try {
+                return CompletableFuture.supplyAsync(task, passwordHashExecutor);
+            } catch (RejectedExecutionException e) {
+                if (System.nanoTime() >= deadline) {
+                    rejectedCounter.increment();
+                    throw new ServiceUnavailableException(BUSY_MESSAGE, retryAfterSeconds);
+                }
+                Thread.sleep(BULK_RETRY_INTERVAL_MILLIS);
+            }
+        }
     }
 
     public boolean matches(String rawPassword, String encodedPassword) {
-        BCrypt.Result result = BCrypt.verifyer().verify(rawPassword.toCharArray(), encodedPassword);
-        return result.verified;
+        return hash(matchesTimer, () -> BCrypt.verifyer().verify(rawPassword.toCharArray(), encodedPassword).verified);
+    }
+
+    private <T> T hash(Timer hashTimer, Supplier<T> task) {
+        long submittedAt = System.nanoTime();
+        CompletableFuture<T> future;
+        try {
+            future = CompletableFuture.supplyAsync(() -> {
+                queueWaitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                return hashTimer.record(task);
+            }, passwordHashExecutor);
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new ServiceUnavailableException(BUSY_MESSAGE, retryAfterSeconds);
+        }
+
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(false);
+            throw new ServiceUnavailableException(BUSY_MESSAGE, retryAfterSeconds);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServerException("비밀번호 처리 중 인터럽트가 발생했습니다.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new ServerException("비밀번호 처리에 실패했습니다.");
+        }
+    }
+
+    private static String bcrypt(String rawPassword) {
+        return BCrypt.withDefaults().hashToString(BCrypt.MIN_COST, rawPassword.toCharArray());
+    }
+
+    private static Timer hashTimer(MeterRegistry meterRegistry, String operation) {
+        return Timer.builder("password.hash.time")
+                .description("bcrypt 실행 시간")
+                .tag("operation", operation)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
     }
 }
@@ -0,0 +1,82 @@
+package org.example.expert.config.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.task.SimpleAsyncTaskExecutorBuilder;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class ExecutorConfig {
+
+    @Value("${todo.purge.queue-capacity:100}")
+    private int todoPurgeQueueCapacity;
+    // 0 이면 CPU 코어 수
+    @Value("${password.hash.pool-size:0}")
+    private int passwordHashPoolSize;
+    @Value("${password.hash.queue-capacity:64}")
+    private int passwordHashQueueCapacity;
+    @Value("${io.pool-size:32}")
+    private int ioPoolSize;
+    @Value("${io.queue-capacity:500}")
+    private int ioQueueCapacity;
+
+    // Executor 빈을 직접 등록하면 Boot 기본 executor 가 빠지므로 MVC 비동기 처리(StreamingResponseBody)용으로 다시 등록
+    @Lazy
+    @Bean(name = TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public ThreadPoolTaskExecutor applicationTaskExecutor(ThreadPoolTaskExecutorBuilder builder) {
+        return builder.build();
+    }
+
+    // virtual-threads 프로필(Java 21), Boot 기본 설정과 같이 작업마다 virtual thread 를 만듦
+    // bcrypt/purge 는 CPU 와 DB 부하를 제한하려는 것이므로 아래 platform thread 풀을 그대로 씀
+    @Lazy
+    @Bean(name = TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public SimpleAsyncTaskExecutor applicationTaskExecutorVirtualThreads(SimpleAsyncTaskExecutorBuilder builder) {
+        return builder.build();
+    }
+
+    // 댓글이 많은 일정의 백그라운드 삭제 전용, 스레드 하나로 DB 부하를 제한하고 큐가 차면 거절
+    @Bean
+    public ThreadPoolTaskExecutor todoPurgeExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(todoPurgeQueueCapacity);
+        executor.setThreadNamePrefix("todo-purge-");
+        return executor;
+    }
+
+    // bcrypt 전용, CPU 코어 수 만큼만 동시에 해시하고 대기열이 차면 TaskRejectedException 으로 거절
+    // executor.* 메트릭(대기열 길이, 활성 스레드 수)은 Boot 가 자동으로 등록
+    @Bean
+    public ThreadPoolTaskExecutor passwordHashExecutor() {
+        int poolSize = passwordHashPoolSize > 0 ? passwordHashPoolSize : Runtime.getRuntime().availableProcessors();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(passwordHashQueueCapacity);
+        executor.setThreadNamePrefix("password-hash-");
+        return executor;
+    }
+
+    // 외부 API 호출 등 blocking I/O 전용 (POST /todos/async 의 날씨 조회와 저장)
+    // 느린 upstream 이 Tomcat 요청 스레드 대신 이 풀만 묶도록 크기를 제한하고, 대기열이 차면 거절
+    @Bean
+    public ThreadPoolTaskExecutor ioExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(ioPoolSize);
+        executor.setMaxPoolSize(ioPoolSize);
+        executor.setQueueCapacity(ioQueueCapacity);
+        executor.setThreadNamePrefix("io-");
+        return executor;
+    }
+}
@@ -3,6 +3,7 @@ package org.example.expert.config.config;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.config.JwtFilter;
 import org.example.expert.config.JwtUtil;
+import org.example.expert.domain.auth.service.TokenRevocationRegistry;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -12,11 +13,12 @@ import org.springframework.context.annotation.Configuration;
 public class FilterConfig {
 
     private final JwtUtil jwtUtil;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
 
     @Bean
     public FilterRegistrationBean<JwtFilter> jwtFilter() {
         FilterRegistrationBean<JwtFilter> registrationBean = new FilterRegistrationBean<>();
-        registrationBean.setFilter(new JwtFilter(jwtUtil));
+        registrationBean.setFilter(new JwtFilter(jwtUtil, tokenRevocationRegistry));
         registrationBean.addUrlPatterns("/*"); // 필터를 적용할 URL 패턴을 지정합니다.
 
         return registrationBean;
@@ -1,9 +1,80 @@
 package org.example.expert.config.config;
 
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
+import javax.cache.CacheManager;
+import javax.cache.spi.CachingProvider;
+import java.time.Duration;
+import java.util.OptionalLong;
+
 @Configuration
 @EnableJpaAuditing
 public class PersistenceConfig {
+
+    // 2차 캐시 region, 엔티티의 @Cache / @NaturalIdCache region 과 같은 이름
+    public static final String USERS_REGION = "users";
+    public static final String USERS_NATURAL_ID_REGION = "users-natural-id";
+    public static final String TODOS_REGION = "todos";
+
+    @Value("${persistence.second-level-cache.users-max-size:10000}")
+    private long usersMaxSize;
+    @Value("${persistence.second-level-cache.todos-max-size:50000}")
+    private long todosMaxSize;
+    // 캐시는 노드마다 따로 있으므로 다른 노드의 변경이 반영되기까지의 최대 시간
+    @Value("${persistence.second-level-cache.time-to-live:PT10M}")
+    private Duration timeToLive;
+
+    // 엔티티 id 는 pooled sequence(allocationSize 50) 로 발급되므로 insert 를 JDBC batch 로 묶을 수 있음
+    // spring.jpa.properties.hibernate.* 로 직접 지정한 값이 있으면 그 값을 우선함
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchingCustomizer(
+            @Value("${persistence.jdbc-batch-size:50}") int batchSize
+    ) {
+        return properties -> {
+            properties.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE, batchSize);
+            properties.putIfAbsent(AvailableSettings.ORDER_INSERTS, true);
+            properties.putIfAbsent(AvailableSettings.ORDER_UPDATES, true);
+            properties.putIfAbsent(AvailableSettings.BATCH_VERSIONED_DATA, true);
+        };
+    }
+
+    // Hibernate 2차 캐시 전용 JCache(Caffeine) CacheManager
+    // CachingProvider 를 직접 만들어 다른 ApplicationContext 와 캐시를 공유하지 않고, region 마다 크기를 제한
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager() {
+        CachingProvider cachingProvider = new CaffeineCachingProvider();
+        CacheManager cacheManager = cachingProvider.getCacheManager(
+                cachingProvider.getDefaultURI(), getClass().getClassLoader());
+        cacheManager.createCache(USERS_REGION, boundedRegion(usersMaxSize));
+        cacheManager.createCache(USERS_NATURAL_ID_REGION, boundedRegion(usersMaxSize));
+        cacheManager.createCache(TODOS_REGION, boundedRegion(todosMaxSize));
+        return cacheManager;
+    }
+
+    // 미리 만든 region 만 쓰도록 missing_cache_strategy=fail, 통계는 actuator 의 hibernate.* 메트릭으로 노출
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.putIfAbsent(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.putIfAbsent(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.putIfAbsent(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            properties.putIfAbsent(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+            properties.putIfAbsent(AvailableSettings.GENERATE_STATISTICS, true);
+        };
+    }
+
+    private CaffeineConfiguration<Object, Object> boundedRegion(long maximumSize) {
+        return new CaffeineConfiguration<>()
+                .setMaximumSize(OptionalLong.of(maximumSize))
+                .setExpireAfterWrite(OptionalLong.of(timeToLive.toNanos()))
+                .setStatisticsEnabled(true);
+    }
 }
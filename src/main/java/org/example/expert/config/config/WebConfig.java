@@ -25,6 +25,6 @@ public class WebConfig implements WebMvcConfigurer {
     @Override
     public void addInterceptors(InterceptorRegistry registry){
         registry.addInterceptor(adminInterceptor)
-                .addPathPatterns("/admin/comments/*","/admin/users/*");
+                .addPathPatterns("/admin/**");
     }
 }
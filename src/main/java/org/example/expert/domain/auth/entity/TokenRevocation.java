@@ -0,0 +1,27 @@
+package org.example.expert.domain.auth.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 유저별 최신 토큰 버전, 각 노드가 revokedAt 으로 폴링해 메모리의 TokenRevocationRegistry 에 반영
+// 토큰 유효 시간이 지난 행은 의미가 없으므로 주기적으로 지워 테이블을 작게 유지
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "token_revocations", indexes = @Index(name = "idx_token_revocations_revoked_at", columnList = "revokedAt"))
+public class TokenRevocation {
+
+    @Id
+    private Long userId;
+    private int tokenVersion;
+    private LocalDateTime revokedAt;
+
+    public TokenRevocation(Long userId, int tokenVersion, LocalDateTime revokedAt) {
+        this.userId = userId;
+        this.tokenVersion = tokenVersion;
+        this.revokedAt = revokedAt;
+    }
+}
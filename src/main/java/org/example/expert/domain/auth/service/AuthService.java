@@ -22,6 +22,8 @@ public class AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
+    private final LoginThrottle loginThrottle;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
 
     @Transactional
     public SignupResponse signup(SignupRequest signupRequest) {
@@ -41,14 +43,16 @@ public class AuthService {
         );
         User savedUser = userRepository.save(newUser);
 
-        String bearerToken = jwtUtil.createToken(savedUser.getId(), savedUser.getEmail(), userRole);
+        String bearerToken = jwtUtil.createToken(savedUser.getId(), savedUser.getEmail(), userRole, savedUser.getTokenVersion());
 
         return new SignupResponse(bearerToken);
     }
 
-    @Transactional(readOnly = true)
-    public SigninResponse signin(SigninRequest signinRequest) {
-        User user = userRepository.findByEmail(signinRequest.getEmail()).orElseThrow(
+    // 시도 제한을 DB 조회보다 먼저 확인하고, bcrypt 동안 커넥션을 잡고 있지 않도록 트랜잭션 없이 실행
+    public SigninResponse signin(SigninRequest signinRequest, String clientAddress) {
+        loginThrottle.acquire(signinRequest.getEmail(), clientAddress);
+
+        User user = userRepository.findCredentialsByEmail(signinRequest.getEmail()).orElseThrow(
                 () -> new InvalidRequestException("가입되지 않은 유저입니다."));
 
         // 로그인 시 이메일과 비밀번호가 일치하지 않을 경우 401을 반환합니다.
@@ -56,7 +60,8 @@ public class AuthService {
             throw new AuthException("잘못된 비밀번호입니다.");
         }
 
-        String bearerToken = jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole());
+        String bearerToken = jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole(),
+                tokenRevocationRegistry.currentVersion(user));
 
         return new SigninResponse(bearerToken);
     }
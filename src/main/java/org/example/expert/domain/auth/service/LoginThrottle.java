@@ -0,0 +1,117 @@
+package org.example.expert.domain.auth.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.expert.domain.common.exception.TooManyRequestsException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 로그인 시도 제한, 이메일별/클라이언트 주소별 token bucket 을 메모리에 유지
+// DB 조회와 bcrypt 전에 호출되며, bucket 하나는 AtomicLong 하나로 lock 없이 갱신됨
+@Component
+public class LoginThrottle {
+
+    private static final String MESSAGE = "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.";
+
+    private final Limit emailLimit;
+    private final Limit addressLimit;
+    private final Cache<String, Bucket> emailBuckets;
+    private final Cache<String, Bucket> addressBuckets;
+    private final Ticker ticker;
+    private final Counter rejectedCounter;
+
+    @Autowired
+    public LoginThrottle(
+            MeterRegistry meterRegistry,
+            @Value("${auth.signin.throttle.email.burst:5}") int emailBurst,
+            @Value("${auth.signin.throttle.email.refill-interval:PT12S}") Duration emailRefillInterval,
+            @Value("${auth.signin.throttle.address.burst:30}") int addressBurst,
+            @Value("${auth.signin.throttle.address.refill-interval:PT1S}") Duration addressRefillInterval,
+            @Value("${auth.signin.throttle.maximum-keys:100000}") long maximumKeys
+    ) {
+        this(meterRegistry, new Limit(emailBurst, emailRefillInterval), new Limit(addressBurst, addressRefillInterval),
+                maximumKeys, Ticker.systemTicker());
+    }
+
+    LoginThrottle(MeterRegistry meterRegistry, Limit emailLimit, Limit addressLimit, long maximumKeys, Ticker ticker) {
+        this.emailLimit = emailLimit;
+        this.addressLimit = addressLimit;
+        this.ticker = ticker;
+        this.emailBuckets = buckets(emailLimit, maximumKeys, ticker);
+        this.addressBuckets = buckets(addressLimit, maximumKeys, ticker);
+        this.rejectedCounter = Counter.builder("auth.signin.throttled")
+                .description("시도 제한으로 거절된 로그인 요청 수")
+                .register(meterRegistry);
+    }
+
+    public void acquire(String email, String clientAddress) {
+        long now = ticker.read();
+        // 주소에서 막힌 요청이 이메일 bucket 까지 소모해 실제 사용자를 잠그지 않도록 주소를 먼저 확인
+        long waitNanos = tryAcquire(addressBuckets, addressLimit, clientAddress, now);
+        if (waitNanos == 0) {
+            waitNanos = tryAcquire(emailBuckets, emailLimit, email.toLowerCase(Locale.ROOT), now);
+        }
+        if (waitNanos > 0) {
+            rejectedCounter.increment();
+            long retryAfterSeconds = TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1);
+            throw new TooManyRequestsException(MESSAGE, retryAfterSeconds);
+        }
+    }
+
+    // 0 이면 통과, 아니면 다음 토큰까지 기다려야 하는 시간(ns)
+    private static long tryAcquire(Cache<String, Bucket> buckets, Limit limit, String key, long now) {
+        if (key == null) {
+            return 0;
+        }
+        return buckets.get(key, k -> new Bucket()).tryAcquire(limit, now);
+    }
+
+    // 마지막 시도 후 bucket 이 가득 찰 만큼 지나면 새 bucket 과 같으므로 그때 제거
+    private static Cache<String, Bucket> buckets(Limit limit, long maximumKeys, Ticker ticker) {
+        return Caffeine.newBuilder()
+                .maximumSize(maximumKeys)
+                .expireAfterAccess(limit.intervalNanos * limit.burst, TimeUnit.NANOSECONDS)
+                .ticker(ticker)
+                .build();
+    }
+
+    static final class Limit {
+
+        private final int burst;
+        private final long intervalNanos; // 토큰 하나가 다시 채워지는 시간
+
+        Limit(int burst, Duration refillInterval) {
+            this.burst = burst;
+            this.intervalNanos = refillInterval.toNanos();
+        }
+    }
+
+    // GCRA 방식 token bucket, 다음 요청이 허용되는 이론상 시각(tat) 하나만 저장
+    private static final class Bucket {
+
+        private final AtomicLong theoreticalArrivalTime = new AtomicLong(Long.MIN_VALUE);
+
+        long tryAcquire(Limit limit, long now) {
+            long tolerance = limit.intervalNanos * (limit.burst - 1);
+            while (true) {
+                long current = theoreticalArrivalTime.get();
+                long tat = current == Long.MIN_VALUE ? now : Math.max(current, now);
+                if (tat - now > tolerance) {
+                    return tat - now - tolerance;
+                }
+                if (theoreticalArrivalTime.compareAndSet(current, tat + limit.intervalNanos)) {
+                    return 0;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package org.example.expert.domain.auth.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.config.JwtUtil;
+import org.example.expert.domain.auth.entity.TokenRevocation;
+import org.example.expert.domain.auth.repository.TokenRevocationRepository;
+import org.example.expert.domain.user.entity.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 유저별 토큰 버전, JwtFilter 는 토큰의 ver claim 이 현재 버전보다 작으면 거절
+// 최근 토큰 유효 시간 안에 무효화된 유저만 메모리에 들고, 다른 노드의 변경은 token_revocations 폴링으로 반영
+@Slf4j
+@Component
+public class TokenRevocationRegistry {
+
+    private static final Duration TOKEN_LIFETIME = Duration.ofMillis(JwtUtil.TOKEN_TIME);
+
+    private final TokenRevocationRepository tokenRevocationRepository;
+    private final EntityManagerFactory entityManagerFactory;
+
+    // 폴링 직전에 커밋되었지만 revokedAt 이 더 이른 행을 놓치지 않도록 겹쳐 읽는 구간
+    @Value("${auth.token-revocation.poll-overlap:PT10S}")
+    private Duration pollOverlap = Duration.ofSeconds(10);
+
+    // 변경은 드물기 때문에 synchronized 로 쓰고, 읽기는 volatile 로 교체되는 VersionTable 로만 함
+    private final Map<Long, Revocation> revocations = new HashMap<>();
+    private volatile VersionTable versionTable = VersionTable.EMPTY;
+    private LocalDateTime lastPolledAt;
+
+    public TokenRevocationRegistry(TokenRevocationRepository tokenRevocationRepository,
+                                   EntityManagerFactory entityManagerFactory) {
+        this.tokenRevocationRepository = tokenRevocationRepository;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    // 웹 서버가 요청을 받기 전에 한 번 읽어 두어, 첫 폴링 전에 무효화된 토큰이 통과하지 않도록 함
+    // DB 를 읽지 못하면 기동에 실패함
+    @PostConstruct
+    void loadOnStartup() {
+        poll();
+    }
+
+    // JwtFilter 에서 요청마다 호출, 락과 객체 생성 없이 배열만 읽음
+    public boolean isRevoked(long userId, int tokenVersion) {
+        return versionTable.version(userId) > tokenVersion;
+    }
+
+    // 다른 노드의 2차 캐시에 남은 User 는 버전이 낮을 수 있으므로 폴링한 값과 비교해 큰 값으로 발급
+    public int currentVersion(User user) {
+        return Math.max(versionTable.version(user.getId()), user.getTokenVersion());
+    }
+
+    // 호출한 트랜잭션에서 User 와 revocation 행을 함께 저장하고, 커밋된 뒤에 이 노드에 바로 반영
+    public void revoke(User user) {
+        int version = currentVersion(user) + 1;
+        LocalDateTime revokedAt = LocalDateTime.now();
+        user.updateTokenVersion(version);
+        tokenRevocationRepository.save(new TokenRevocation(user.getId(), version, revokedAt));
+
+        Runnable apply = () -> apply(user.getId(), version, revokedAt);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply.run();
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${auth.token-revocation.poll-interval:5000}")
+    public void poll() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime since = lastPolledAt == null ? now.minus(TOKEN_LIFETIME) : lastPolledAt.minus(pollOverlap);
+        List<TokenRevocation> rows = tokenRevocationRepository.findByRevokedAtAfter(since);
+
+        List<Long> changedUserIds = new ArrayList<>();
+        synchronized (this) {
+            boolean changed = false;
+            for (TokenRevocation row : rows) {
+                if (merge(row.getUserId(), row.getTokenVersion(), row.getRevokedAt())) {
+                    changedUserIds.add(row.getUserId());
+                    changed = true;
+                }
+            }
+            // 무효화 이전에 발급된 토큰이 모두 만료된 유저는 더 이상 확인할 필요가 없음
+            LocalDateTime expiredBefore = now.minus(TOKEN_LIFETIME);
+            changed |= revocations.values().removeIf(revocation -> revocation.revokedAt.isBefore(expiredBefore));
+            if (changed) {
+                versionTable = new VersionTable(revocations);
+            }
+        }
+        // 다른 노드에서 바뀐 권한/비밀번호가 이 노드의 2차 캐시에 남지 않도록 제거
+        changedUserIds.forEach(userId -> entityManagerFactory.getCache().evict(User.class, userId));
+        lastPolledAt = now;
+    }
+
+    @Scheduled(fixedDelayString = "${auth.token-revocation.cleanup-interval:3600000}")
+    public void deleteExpired() {
+        int deleted = tokenRevocationRepository.deleteExpired(LocalDateTime.now().minus(TOKEN_LIFETIME));
+        if (deleted > 0) {
+            log.info("Expired token revocations deleted: Count: {}", deleted);
+        }
+    }
+
+    private synchronized void apply(long userId, int version, LocalDateTime revokedAt) {
+        if (merge(userId, version, revokedAt)) {
+            versionTable = new VersionTable(revocations);
+        }
+    }
+
+    private boolean merge(long userId, int version, LocalDateTime revokedAt) {
+        Revocation current = revocations.get(userId);
+        if (current != null && current.version >= version) {
+            return false;
+        }
+        revocations.put(userId, new Revocation(version, revokedAt));
+        return true;
+    }
+
+    private static final class Revocation {
+
+        private final int version;
+        private final LocalDateTime revokedAt;
+
+        private Revocation(int version, LocalDateTime revokedAt) {
+            this.version = version;
+            this.revokedAt = revokedAt;
+        }
+    }
+
+    // userId -> version 읽기 전용 open addressing 테이블, 버전은 1 이상이므로 0 을 빈 칸으로 씀
+    private static final class VersionTable {
+
+        private static final VersionTable EMPTY = new VersionTable(Map.of());
+
+        private final long[] userIds;
+        private final int[] versions;
+        private final int mask;
+
+        private VersionTable(Map<Long, Revocation> revocations) {
+            int capacity = 8;
+            while (capacity < revocations.size() * 2) {
+                capacity <<= 1;
+            }
+            userIds = new long[capacity];
+            versions = new int[capacity];
+            mask = capacity - 1;
+            revocations.forEach((userId, revocation) -> {
+                int index = index(userId);
+                while (versions[index] != 0) {
+                    index = (index + 1) & mask;
+                }
+                userIds[index] = userId;
+                versions[index] = revocation.version;
+            });
+        }
+
+        private int version(long userId) {
+            int index = index(userId);
+            while (versions[index] != 0) {
+                if (userIds[index] == userId) {
+                    return versions[index];
+                }
+                index = (index + 1) & mask;
+            }
+            return 0;
+        }
+
+        private int index(long userId) {
+            long hash = userId * 0x9E3779B97F4A7C15L;
+            return (int) (hash ^ (hash >>> 32)) & mask;
+        }
+    }
+}
@@ -1,10 +1,12 @@
 package org.example.expert.domain.comment.controller;
 
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.comment.dto.request.CommentBulkDeleteRequest;
+import org.example.expert.domain.comment.dto.response.CommentBulkDeleteResponse;
 import org.example.expert.domain.comment.service.CommentAdminService;
-import org.springframework.web.bind.annotation.DeleteMapping;
-import org.springframework.web.bind.annotation.PathVariable;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
 
 @RestController
 @RequiredArgsConstructor
@@ -16,4 +18,21 @@ public class CommentAdminController {
     public void deleteComment(@PathVariable long commentId) {
         commentAdminService.deleteComment(commentId);
     }
+
+    @DeleteMapping("/admin/comments")
+    public ResponseEntity<CommentBulkDeleteResponse> deleteComments(
+            @Valid @RequestBody CommentBulkDeleteRequest commentBulkDeleteRequest
+    ) {
+        return ResponseEntity.ok(commentAdminService.deleteComments(commentBulkDeleteRequest.getCommentIds()));
+    }
+
+    @DeleteMapping("/admin/todos/{todoId}/comments")
+    public ResponseEntity<CommentBulkDeleteResponse> deleteCommentsByTodo(@PathVariable long todoId) {
+        return ResponseEntity.ok(commentAdminService.deleteCommentsByTodo(todoId));
+    }
+
+    @DeleteMapping("/admin/users/{userId}/comments")
+    public ResponseEntity<CommentBulkDeleteResponse> deleteCommentsByUser(@PathVariable long userId) {
+        return ResponseEntity.ok(commentAdminService.deleteCommentsByUser(userId));
+    }
 }
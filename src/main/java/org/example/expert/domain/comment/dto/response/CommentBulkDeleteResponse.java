@@ -0,0 +1,13 @@
+package org.example.expert.domain.comment.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class CommentBulkDeleteResponse {
+
+    private final long deletedCount;
+
+    public CommentBulkDeleteResponse(long deletedCount) {
+        this.deletedCount = deletedCount;
+    }
+}
@@ -1,14 +1,53 @@
 package org.example.expert.domain.comment.repository;
 
+import jakarta.persistence.QueryHint;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.entity.Comment;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
-    @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.todo.id = :todoId")
-    List<Comment> findByTodoIdWithUser(@Param("todoId") Long todoId);
+    @Query("SELECT new org.example.expert.domain.comment.dto.response.CommentResponse(c.id, c.contents, u.id, u.email) " +
+            "FROM Comment c JOIN c.user u WHERE c.todo.id = :todoId")
+    List<CommentResponse> findResponsesByTodoId(@Param("todoId") Long todoId);
+
+    // export 용 [todoId, commentId, contents, userId, email], 일정 id -> 댓글 id 순으로 한 행씩 읽어 일정 하나의 목록도 메모리에 모으지 않음
+    // MySQL 은 JDBC URL 에 useCursorFetch=true 가 있어야 fetch size 만큼씩 읽음, 없으면 결과 전체를 메모리에 올림
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT c.todo.id, c.id, c.contents, u.id, u.email " +
+            "FROM Comment c JOIN c.user u WHERE c.todo.id IN :todoIds ORDER BY c.todo.id, c.id")
+    Stream<Object[]> streamRowsByTodoIdIn(@Param("todoIds") Collection<Long> todoIds);
+
+    // 전체 개수 대신 offset 위치에 댓글이 있는지만 보고 많은지 판단, PageRequest.of(n, 1) 이면 n+1 번째 id
+    @Query("SELECT c.id FROM Comment c WHERE c.todo.id = :todoId ORDER BY c.id")
+    List<Long> findIdsByTodoId(@Param("todoId") Long todoId, Pageable pageable);
+
+    @Query("SELECT c.todo.id FROM Comment c WHERE c.id = :commentId")
+    Optional<Long> findTodoIdById(@Param("commentId") Long commentId);
+
+    @Query("SELECT c.id FROM Comment c WHERE c.todo.id = :todoId ORDER BY c.id")
+    List<Long> findIdsByTodoId(@Param("todoId") Long todoId, Limit limit);
+
+    @Query("SELECT c.id FROM Comment c WHERE c.user.id = :userId ORDER BY c.id")
+    List<Long> findIdsByUserId(@Param("userId") Long userId, Limit limit);
+
+    // 엔티티를 읽지 않는 bulk delete, 영속성 컨텍스트와 어긋나지 않도록 실행 후 비움
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM Comment c WHERE c.id IN :commentIds")
+    int deleteAllByIdIn(@Param("commentIds") Collection<Long> commentIds);
 }
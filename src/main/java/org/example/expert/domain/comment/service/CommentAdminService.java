@@ -1,18 +1,78 @@
 package org.example.expert.domain.comment.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.comment.dto.response.CommentBulkDeleteResponse;
 import org.example.expert.domain.comment.repository.CommentRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.function.Supplier;
 
 @Service
 @RequiredArgsConstructor
 public class CommentAdminService {
 
     private final CommentRepository commentRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final CommentListCache commentListCache;
+
+    // 한 트랜잭션에서 지우는 최대 댓글 수, 락과 undo 로그가 한없이 커지지 않도록 제한
+    @Value("${comment.bulk-delete.chunk-size:1000}")
+    private int chunkSize = 1000;
 
     @Transactional
     public void deleteComment(long commentId) {
+        commentRepository.findTodoIdById(commentId).ifPresent(commentListCache::evictAfterCommit);
         commentRepository.deleteById(commentId);
     }
+
+    public CommentBulkDeleteResponse deleteComments(List<Long> commentIds) {
+        List<Long> distinctIds = new ArrayList<>(new LinkedHashSet<>(commentIds));
+        long deleted = 0;
+        for (int from = 0; from < distinctIds.size(); from += chunkSize) {
+            List<Long> chunk = distinctIds.subList(from, Math.min(from + chunkSize, distinctIds.size()));
+            deleted += deleteChunk(chunk);
+        }
+        // 어느 일정의 댓글인지 모르므로 전체를 비움
+        commentListCache.evictAllAfterCommit();
+        return new CommentBulkDeleteResponse(deleted);
+    }
+
+    public CommentBulkDeleteResponse deleteCommentsByTodo(long todoId) {
+        long deleted = deleteUntilEmpty(() -> commentRepository.findIdsByTodoId(todoId, Limit.of(chunkSize)));
+        commentListCache.evictAfterCommit(todoId);
+        return new CommentBulkDeleteResponse(deleted);
+    }
+
+    public CommentBulkDeleteResponse deleteCommentsByUser(long userId) {
+        long deleted = deleteUntilEmpty(() -> commentRepository.findIdsByUserId(userId, Limit.of(chunkSize)));
+        commentListCache.evictAllAfterCommit();
+        return new CommentBulkDeleteResponse(deleted);
+    }
+
+    private long deleteUntilEmpty(Supplier<List<Long>> nextChunk) {
+        long deleted = 0;
+        while (true) {
+            List<Long> chunk = nextChunk.get();
+            if (chunk.isEmpty()) {
+                return deleted;
+            }
+            deleted += deleteChunk(chunk);
+            if (chunk.size() < chunkSize) {
+                return deleted;
+            }
+        }
+    }
+
+    // chunk 마다 별도 트랜잭션으로 커밋
+    private int deleteChunk(List<Long> commentIds) {
+        Integer deleted = transactionTemplate.execute(status -> commentRepository.deleteAllByIdIn(commentIds));
+        return deleted == null ? 0 : deleted;
+    }
 }
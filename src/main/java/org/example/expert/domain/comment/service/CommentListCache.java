@@ -0,0 +1,106 @@
+package org.example.expert.domain.comment.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+// 일정별 댓글 목록(List<CommentResponse>) 캐시
+// 엔트리 수가 아니라 추정 메모리 크기로 제한하고, 댓글 저장/삭제가 커밋되면 해당 일정의 목록을 비움
+// 다른 노드의 변경은 비울 수 없으므로 2차 캐시와 같은 time-to-live 가 지나면 다시 조회
+@Component
+public class CommentListCache {
+
+    // 객체 헤더, 참조, Long/UserResponse 등을 대략 합한 댓글 하나의 고정 크기
+    private static final int COMMENT_OVERHEAD_BYTES = 128;
+    private static final int LIST_OVERHEAD_BYTES = 64;
+
+    private final AsyncCache<Long, List<CommentResponse>> cache;
+
+    public CommentListCache(
+            MeterRegistry meterRegistry,
+            @Value("${comment.cache.maximum-weight-bytes:33554432}") long maximumWeightBytes,
+            @Value("${comment.cache.time-to-live:${persistence.second-level-cache.time-to-live:PT10M}}") Duration timeToLive
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumWeightBytes)
+                .expireAfterWrite(timeToLive)
+                .weigher(CommentListCache::weigh)
+                .recordStats()
+                .buildAsync();
+        // cache.gets, cache.evictions 등 comments 캐시 메트릭 등록
+        CaffeineCacheMetrics.monitor(meterRegistry, cache.synchronous(), "comments");
+    }
+
+    // 같은 일정에 동시에 miss 가 나도 loader 는 한 번만 실행되고 나머지는 그 결과를 기다림
+    // 맵 안에는 빈 future 만 넣고 조회는 호출 스레드에서 락 밖에서 실행하므로,
+    // compute 의 synchronized 구간에서 JDBC I/O 를 하며 virtual thread 가 carrier 에 고정(pinning)되지 않음
+    public List<CommentResponse> get(long todoId, Function<Long, List<CommentResponse>> loader) {
+        CompletableFuture<List<CommentResponse>> loading = new CompletableFuture<>();
+        CompletableFuture<List<CommentResponse>> cached = cache.get(todoId, (id, executor) -> loading);
+        if (cached == loading) {
+            try {
+                loading.complete(List.copyOf(loader.apply(todoId)));
+            } catch (RuntimeException | Error e) {
+                // 실패한 future 는 캐시에서 자동으로 빠짐
+                loading.completeExceptionally(e);
+                throw e;
+            }
+        }
+        try {
+            return cached.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    // 커밋 전에 비우면 다른 요청이 커밋 전 데이터를 다시 캐시할 수 있으므로 커밋 후에 비움
+    public void evictAfterCommit(long todoId) {
+        runAfterCommit(() -> cache.synchronous().invalidate(todoId));
+    }
+
+    public void evictAllAfterCommit() {
+        runAfterCommit(() -> cache.synchronous().invalidateAll());
+    }
+
+    private void runAfterCommit(Runnable eviction) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            eviction.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                eviction.run();
+            }
+        });
+    }
+
+    private static int weigh(Long todoId, List<CommentResponse> comments) {
+        long bytes = LIST_OVERHEAD_BYTES;
+        for (CommentResponse comment : comments) {
+            bytes += COMMENT_OVERHEAD_BYTES
+                    + 2L * length(comment.getContents())
+                    + 2L * length(comment.getUser().getEmail());
+        }
+        return (int) Math.min(Integer.MAX_VALUE, bytes);
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+}
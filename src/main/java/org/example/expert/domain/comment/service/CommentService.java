@@ -15,7 +15,6 @@ import org.example.expert.domain.user.entity.User;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
 import java.util.List;
 
 @Service
@@ -24,12 +23,16 @@ public class CommentService {
 
     private final TodoRepository todoRepository;
     private final CommentRepository commentRepository;
+    private final CommentListCache commentListCache;
 
     @Transactional
     public CommentSaveResponse saveComment(AuthUser authUser, long todoId, CommentSaveRequest commentSaveRequest) {
         User user = User.fromAuthUser(authUser);
-        Todo todo = todoRepository.findById(todoId).orElseThrow(() ->
-                new InvalidRequestException("Todo not found"));
+        // 외래 키만 필요하므로 일정은 존재 여부만 확인하고 프록시로 참조
+        if (!todoRepository.existsById(todoId)) {
+            throw new InvalidRequestException("Todo not found");
+        }
+        Todo todo = todoRepository.getReferenceById(todoId);
 
         Comment newComment = new Comment(
                 commentSaveRequest.getContents(),
@@ -38,6 +41,7 @@ public class CommentService {
         );
 
         Comment savedComment = commentRepository.save(newComment);
+        commentListCache.evictAfterCommit(todoId);
 
         return new CommentSaveResponse(
                 savedComment.getId(),
@@ -46,20 +50,8 @@ public class CommentService {
         );
     }
 
-    @Transactional(readOnly = true)
+    // 캐시 hit 일 때 커넥션을 잡지 않도록 트랜잭션 없이 조회, miss 일 때만 repository 트랜잭션에서 조회
     public List<CommentResponse> getComments(long todoId) {
-        List<Comment> commentList = commentRepository.findByTodoIdWithUser(todoId);
-
-        List<CommentResponse> dtoList = new ArrayList<>();
-        for (Comment comment : commentList) {
-            User user = comment.getUser();
-            CommentResponse dto = new CommentResponse(
-                    comment.getId(),
-                    comment.getContents(),
-                    new UserResponse(user.getId(), user.getEmail())
-            );
-            dtoList.add(dto);
-        }
-        return dtoList;
+        return commentListCache.get(todoId, commentRepository::findResponsesByTodoId);
     }
 }
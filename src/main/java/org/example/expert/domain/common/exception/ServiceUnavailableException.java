@@ -0,0 +1,15 @@
+package org.example.expert.domain.common.exception;
+
+import lombok.Getter;
+
+// 서버가 바빠 요청을 처리하지 않고 바로 돌려보낼 때 사용, 503 + Retry-After 로 응답
+@Getter
+public class ServiceUnavailableException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public ServiceUnavailableException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,15 @@
+package org.example.expert.domain.common.exception;
+
+import lombok.Getter;
+
+// 요청 한도를 넘었을 때 사용, 429 + Retry-After 로 응답
+@Getter
+public class TooManyRequestsException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
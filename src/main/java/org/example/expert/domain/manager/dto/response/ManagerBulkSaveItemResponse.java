@@ -0,0 +1,18 @@
+package org.example.expert.domain.manager.dto.response;
+
+import lombok.Getter;
+import org.example.expert.domain.manager.enums.ManagerAssignStatus;
+
+@Getter
+public class ManagerBulkSaveItemResponse {
+
+    private final Long managerUserId;
+    private final ManagerAssignStatus status;
+    private final Long managerId; // ASSIGNED 일 때만 값이 있음
+
+    public ManagerBulkSaveItemResponse(Long managerUserId, ManagerAssignStatus status, Long managerId) {
+        this.managerUserId = managerUserId;
+        this.status = status;
+        this.managerId = managerId;
+    }
+}
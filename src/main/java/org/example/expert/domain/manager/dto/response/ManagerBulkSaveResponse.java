@@ -0,0 +1,17 @@
+package org.example.expert.domain.manager.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class ManagerBulkSaveResponse {
+
+    private final int assigned;
+    private final List<ManagerBulkSaveItemResponse> results;
+
+    public ManagerBulkSaveResponse(int assigned, List<ManagerBulkSaveItemResponse> results) {
+        this.assigned = assigned;
+        this.results = results;
+    }
+}
@@ -0,0 +1,9 @@
+package org.example.expert.domain.manager.enums;
+
+public enum ManagerAssignStatus {
+    ASSIGNED,          // 새로 배치됨
+    ALREADY_ASSIGNED,  // 이미 담당자로 배치된 유저
+    DUPLICATE,         // 요청 안에서 중복된 유저 id
+    SELF_ASSIGN,       // 일정 작성자 본인
+    USER_NOT_FOUND     // 존재하지 않는 유저
+}
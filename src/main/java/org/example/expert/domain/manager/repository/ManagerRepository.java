@@ -1,13 +1,47 @@
 package org.example.expert.domain.manager.repository;
 
+import jakarta.persistence.QueryHint;
+import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.entity.Manager;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface ManagerRepository extends JpaRepository<Manager, Long> {
-    @Query("SELECT m FROM Manager m JOIN FETCH m.user WHERE m.todo.id = :todoId")
-    List<Manager> findByTodoIdWithUser(@Param("todoId") Long todoId);
+    @Query("SELECT new org.example.expert.domain.manager.dto.response.ManagerResponse(m.id, u.id, u.email) " +
+            "FROM Manager m JOIN m.user u WHERE m.todo.id = :todoId")
+    List<ManagerResponse> findResponsesByTodoId(@Param("todoId") Long todoId);
+
+    // export 용 [todoId, managerId, userId, email], 일정 id -> 담당자 id 순으로 한 행씩 읽어 일정 하나의 목록도 메모리에 모으지 않음
+    // MySQL 은 JDBC URL 에 useCursorFetch=true 가 있어야 fetch size 만큼씩 읽음, 없으면 결과 전체를 메모리에 올림
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT m.todo.id, m.id, u.id, u.email " +
+            "FROM Manager m JOIN m.user u WHERE m.todo.id IN :todoIds ORDER BY m.todo.id, m.id")
+    Stream<Object[]> streamRowsByTodoIdIn(@Param("todoIds") Collection<Long> todoIds);
+
+    @Query("SELECT m.user.id FROM Manager m WHERE m.todo.id = :todoId AND m.user.id IN :userIds")
+    List<Long> findUserIdsByTodoIdAndUserIdIn(@Param("todoId") Long todoId, @Param("userIds") Collection<Long> userIds);
+
+    // 담당자를 읽지 않고 일정 조건까지 포함해 바로 삭제, 지워진 행 수를 반환
+    @Modifying
+    @Query("DELETE FROM Manager m WHERE m.id = :managerId AND m.todo.id = :todoId")
+    int deleteByIdAndTodoId(@Param("managerId") Long managerId, @Param("todoId") Long todoId);
+
+    @Query("SELECT m.id FROM Manager m WHERE m.todo.id = :todoId ORDER BY m.id")
+    List<Long> findIdsByTodoId(@Param("todoId") Long todoId, Limit limit);
+
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM Manager m WHERE m.id IN :managerIds")
+    int deleteAllByIdIn(@Param("managerIds") Collection<Long> managerIds);
 }
@@ -3,10 +3,14 @@ package org.example.expert.domain.manager.service;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.dto.request.ManagerBulkSaveRequest;
 import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
+import org.example.expert.domain.manager.dto.response.ManagerBulkSaveItemResponse;
+import org.example.expert.domain.manager.dto.response.ManagerBulkSaveResponse;
 import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
 import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.enums.ManagerAssignStatus;
 import org.example.expert.domain.manager.repository.ManagerRepository;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
@@ -16,8 +20,8 @@ import org.example.expert.domain.user.repository.UserRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-import java.util.Objects;
+import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -48,33 +52,72 @@ public class ManagerService {
         );
     }
 
+    // 소유자 확인 1번, 유저 조회 IN 1번, 기존 담당자 조회 IN 1번 후 batch insert
+    @Transactional
+    public ManagerBulkSaveResponse saveManagers(
+            AuthUser authUser, long todoId, ManagerBulkSaveRequest managerBulkSaveRequest
+    ) {
+        User user = getUserFromAuth(authUser);
+        Todo todo = getTodoByIdOrElseThrow(todoId);
+        validateTodoOwner(todo, user);
+
+        List<Long> requestedUserIds = managerBulkSaveRequest.getManagerUserIds();
+        Set<Long> distinctUserIds = new LinkedHashSet<>(requestedUserIds);
+        distinctUserIds.remove(user.getId());
+
+        Map<Long, User> usersById = distinctUserIds.isEmpty() ? Map.of() :
+                userRepository.findAllById(distinctUserIds).stream()
+                        .collect(Collectors.toMap(User::getId, Function.identity()));
+        Set<Long> assignedUserIds = usersById.isEmpty() ? Set.of() :
+                new HashSet<>(managerRepository.findUserIdsByTodoIdAndUserIdIn(todoId, usersById.keySet()));
+
+        List<ManagerBulkSaveItemResponse> results = new ArrayList<>(requestedUserIds.size());
+        Map<Integer, Manager> newManagers = new LinkedHashMap<>();
+        Set<Long> seen = new HashSet<>();
+
+        for (Long managerUserId : requestedUserIds) {
+            ManagerAssignStatus status;
+            if (!seen.add(managerUserId)) {
+                status = ManagerAssignStatus.DUPLICATE;
+            } else if (Objects.equals(managerUserId, user.getId())) {
+                status = ManagerAssignStatus.SELF_ASSIGN;
+            } else if (!usersById.containsKey(managerUserId)) {
+                status = ManagerAssignStatus.USER_NOT_FOUND;
+            } else if (assignedUserIds.contains(managerUserId)) {
+                status = ManagerAssignStatus.ALREADY_ASSIGNED;
+            } else {
+                newManagers.put(results.size(), new Manager(usersById.get(managerUserId), todo));
+                status = ManagerAssignStatus.ASSIGNED;
+            }
+            results.add(new ManagerBulkSaveItemResponse(managerUserId, status, null));
+        }
+
+        // pooled sequence 로 id 가 persist 시점에 정해지고, insert 는 flush 때 batch 로 나감
+        managerRepository.saveAll(newManagers.values());
+        newManagers.forEach((index, manager) -> results.set(index,
+                new ManagerBulkSaveItemResponse(manager.getUser().getId(), ManagerAssignStatus.ASSIGNED, manager.getId())));
+
+        return new ManagerBulkSaveResponse(newManagers.size(), results);
+    }
+
     @Transactional(readOnly = true)
     public List<ManagerResponse> getManagers(long todoId) {
-        Todo todo = getTodoByIdOrElseThrow(todoId);
+        if (!todoRepository.existsById(todoId)) {
+            throw new InvalidRequestException("Todo not found");
+        }
 
-        return managerRepository.findByTodoIdWithUser(todo.getId())
-                .stream()
-                .map(manager -> {
-                    User user = manager.getUser();
-                    return new ManagerResponse(
-                            manager.getId(),
-                            new UserResponse(user.getId(), user.getEmail())
-                    );
-                })
-                .collect(Collectors.toList());
+        return managerRepository.findResponsesByTodoId(todoId);
     }
 
+    // 소유자 확인 select 1번 + delete 1번, 실패했을 때만 원인을 추가로 조회
     @Transactional
     public void deleteManager(long userId, long todoId, long managerId) {
-        User user = getUserByIdOrElseThrow(userId);
-        Todo todo = getTodoByIdOrElseThrow(todoId);
-        validateTodoOwner(todo,user);
-
-        Manager manager = getManagerByIdOrElseThrow(managerId);
-        validateManagerBelongsToTodo(manager, todo);
-
-        managerRepository.delete(manager);
+        validateTodoOwner(todoId, userId);
 
+        if (managerRepository.deleteByIdAndTodoId(managerId, todoId) == 0) {
+            throw new InvalidRequestException(
+                    managerRepository.existsById(managerId) ? "Not a Manager of Todo" : "Manager not found");
+        }
     }
 
     private User getUserFromAuth(AuthUser authUser) {
@@ -91,26 +134,23 @@ public class ManagerService {
                 .orElseThrow(() -> new InvalidRequestException("Todo not found"));
     }
 
-    private Manager getManagerByIdOrElseThrow(long managerId) {
-        return managerRepository.findById(managerId)
-                .orElseThrow(() -> new InvalidRequestException("Manager not found"));
-    }
-
     private void validateTodoOwner(Todo todo, User user) {
         if (!Objects.equals(todo.getUser().getId(), user.getId())) {
             throw new InvalidRequestException("Not the Owner of Todo");
         }
     }
 
-    private void validateNotSelfAssign(User user, User managerUser) {
-        if (Objects.equals(user.getId(), managerUser.getId())) {
-            throw new InvalidRequestException("Can't assign self owner");
+    private void validateTodoOwner(long todoId, long userId) {
+        Long ownerId = todoRepository.findOwnerIdById(todoId)
+                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+        if (!Objects.equals(ownerId, userId)) {
+            throw new InvalidRequestException("Not the Owner of Todo");
         }
     }
 
-    private void validateManagerBelongsToTodo(Manager manager, Todo todo) {
-        if (!Objects.equals(manager.getTodo().getId(), todo.getId())) {
-            throw new InvalidRequestException("Not a Manager of Todo");
+    private void validateNotSelfAssign(User user, User managerUser) {
+        if (Objects.equals(user.getId(), managerUser.getId())) {
+            throw new InvalidRequestException("Can't assign self owner");
         }
     }
 }
@@ -5,18 +5,32 @@ import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoBulkSaveResponse;
+import org.example.expert.domain.todo.dto.response.TodoCursorResponse;
+import org.example.expert.domain.todo.dto.response.TodoDeleteResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.enums.TodoDeleteStatus;
+import org.example.expert.domain.todo.service.TodoBulkService;
+import org.example.expert.domain.todo.service.TodoDeleteService;
 import org.example.expert.domain.todo.service.TodoService;
 import org.springframework.data.domain.Page;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequiredArgsConstructor
 public class TodoController {
 
+    private static final String TOTAL_COUNT_EXACT_HEADER = "X-Total-Count-Exact";
+
     private final TodoService todoService;
+    private final TodoBulkService todoBulkService;
+    private final TodoDeleteService todoDeleteService;
 
     @PostMapping("/todos")
     public ResponseEntity<TodoSaveResponse> saveTodo(
@@ -26,16 +40,55 @@ public class TodoController {
         return ResponseEntity.ok(todoService.saveTodo(authUser, todoSaveRequest));
     }
 
+    // 날씨 조회 동안 servlet 스레드를 점유하지 않음, 날씨가 늦으면 weatherPending=true 로 응답
+    @PostMapping("/todos/async")
+    public CompletableFuture<ResponseEntity<TodoSaveResponse>> saveTodoAsync(
+            @Auth AuthUser authUser,
+            @Valid @RequestBody TodoSaveRequest todoSaveRequest
+    ) {
+        return todoService.saveTodoAsync(authUser, todoSaveRequest).thenApply(ResponseEntity::ok);
+    }
+
+    // 항목별 검증 결과를 돌려주므로 목록 전체에 @Valid 를 걸지 않음
+    @PostMapping("/todos/bulk")
+    public ResponseEntity<TodoBulkSaveResponse> saveTodos(
+            @Auth AuthUser authUser,
+            @RequestBody List<TodoSaveRequest> todoSaveRequests
+    ) {
+        return ResponseEntity.ok(todoBulkService.saveTodos(authUser, todoSaveRequests));
+    }
+
+    // totalElements 가 정확한 값인지 X-Total-Count-Exact 헤더로 알려줌
     @GetMapping("/todos")
     public ResponseEntity<Page<TodoResponse>> getTodos(
             @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean exactCount
+    ) {
+        return ResponseEntity.ok()
+                .header(TOTAL_COUNT_EXACT_HEADER, String.valueOf(exactCount))
+                .body(todoService.getTodos(page, size, exactCount));
+    }
+
+    // offset 페이지네이션의 count/깊은 페이지 비용이 없는 커서 기반 조회
+    @GetMapping("/todos/cursor")
+    public ResponseEntity<TodoCursorResponse> getTodosByCursor(
+            @RequestParam(required = false) String cursor,
             @RequestParam(defaultValue = "10") int size
     ) {
-        return ResponseEntity.ok(todoService.getTodos(page, size));
+        return ResponseEntity.ok(todoService.getTodosByCursor(cursor, size));
     }
 
     @GetMapping("/todos/{todoId}")
     public ResponseEntity<TodoResponse> getTodo(@PathVariable long todoId) {
         return ResponseEntity.ok(todoService.getTodo(todoId));
     }
+
+    // 댓글이 많아 백그라운드에서 정리 중이면 202 Accepted
+    @DeleteMapping("/todos/{todoId}")
+    public ResponseEntity<TodoDeleteResponse> deleteTodo(@Auth AuthUser authUser, @PathVariable long todoId) {
+        TodoDeleteResponse response = todoDeleteService.deleteTodo(authUser.getId(), todoId);
+        HttpStatus status = response.getStatus() == TodoDeleteStatus.DELETED ? HttpStatus.OK : HttpStatus.ACCEPTED;
+        return ResponseEntity.status(status).body(response);
+    }
 }
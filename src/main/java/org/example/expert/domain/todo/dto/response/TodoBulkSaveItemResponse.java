@@ -0,0 +1,27 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class TodoBulkSaveItemResponse {
+
+    private final int index; // 요청 배열에서의 위치
+    private final Long id;
+    private final boolean success;
+    private final String message;
+
+    private TodoBulkSaveItemResponse(int index, Long id, boolean success, String message) {
+        this.index = index;
+        this.id = id;
+        this.success = success;
+        this.message = message;
+    }
+
+    public static TodoBulkSaveItemResponse success(int index, Long id) {
+        return new TodoBulkSaveItemResponse(index, id, true, null);
+    }
+
+    public static TodoBulkSaveItemResponse failure(int index, String message) {
+        return new TodoBulkSaveItemResponse(index, null, false, message);
+    }
+}
@@ -0,0 +1,21 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class TodoBulkSaveResponse {
+
+    private final int requested;
+    private final int saved;
+    private final String weather;
+    private final List<TodoBulkSaveItemResponse> results;
+
+    public TodoBulkSaveResponse(int requested, int saved, String weather, List<TodoBulkSaveItemResponse> results) {
+        this.requested = requested;
+        this.saved = saved;
+        this.weather = weather;
+        this.results = results;
+    }
+}
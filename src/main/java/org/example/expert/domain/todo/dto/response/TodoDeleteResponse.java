@@ -0,0 +1,16 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+import org.example.expert.domain.todo.enums.TodoDeleteStatus;
+
+@Getter
+public class TodoDeleteResponse {
+
+    private final Long id;
+    private final TodoDeleteStatus status;
+
+    public TodoDeleteResponse(Long id, TodoDeleteStatus status) {
+        this.id = id;
+        this.status = status;
+    }
+}
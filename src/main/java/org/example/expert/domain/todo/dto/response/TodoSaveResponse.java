@@ -11,12 +11,19 @@ public class TodoSaveResponse {
     private final String contents;
     private final String weather;
     private final UserResponse user;
+    // 날씨가 아직 채워지지 않았으면 true, 백그라운드에서 채워진 뒤 단건 조회로 확인 가능
+    private final boolean weatherPending;
 
     public TodoSaveResponse(Long id, String title, String contents, String weather, UserResponse user) {
+        this(id, title, contents, weather, user, false);
+    }
+
+    public TodoSaveResponse(Long id, String title, String contents, String weather, UserResponse user, boolean weatherPending) {
         this.id = id;
         this.title = title;
         this.contents = contents;
         this.weather = weather;
         this.user = user;
+        this.weatherPending = weatherPending;
     }
 }
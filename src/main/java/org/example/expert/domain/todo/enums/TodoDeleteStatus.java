@@ -0,0 +1,6 @@
+package org.example.expert.domain.todo.enums;
+
+public enum TodoDeleteStatus {
+    DELETED, // 댓글, 담당자, 일정까지 모두 삭제됨
+    PURGING  // 일정은 조회되지 않고, 댓글/담당자는 백그라운드에서 삭제 중
+}
@@ -1,24 +1,68 @@
 package org.example.expert.domain.todo.repository;
 
+import jakarta.persistence.QueryHint;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.entity.Todo;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface TodoRepository extends JpaRepository<Todo, Long> {
 
-//    @Query("SELECT t FROM Todo t LEFT JOIN FETCH t.user u ORDER BY t.modifiedAt DESC")
-//    Page<Todo> findAllByOrderByModifiedAtDesc(Pageable pageable);
-//    // LEFT JOIN FETCH t.user u 에서 Todo 엔티티를 조회할 때 연관된 user 엔티티를 즉시 로딩한다.
+    // 엔티티를 거치지 않고 응답에 필요한 컬럼만 DTO 로 조회
+    @Query(value = "SELECT new org.example.expert.domain.todo.dto.response.TodoResponse(" +
+            "t.id, t.title, t.contents, t.weather, u.id, u.email, t.createdAt, t.modifiedAt) " +
+            "FROM Todo t JOIN t.user u " +
+            "ORDER BY t.modifiedAt DESC",
+            countQuery = "SELECT COUNT(t) FROM Todo t")
+    Page<TodoResponse> findTodoResponsePage(Pageable pageable);
 
-    @EntityGraph(attributePaths = "user")
-    Page<Todo> findAllByOrderByModifiedAtDesc(Pageable pageable);
+    // count 쿼리 없이 페이지 내용만 조회
+    @Query("SELECT new org.example.expert.domain.todo.dto.response.TodoResponse(" +
+            "t.id, t.title, t.contents, t.weather, u.id, u.email, t.createdAt, t.modifiedAt) " +
+            "FROM Todo t JOIN t.user u " +
+            "ORDER BY t.modifiedAt DESC")
+    List<TodoResponse> findTodoResponses(Pageable pageable);
 
+    // keyset 페이지네이션, count 쿼리 없이 (modifiedAt, id) 인덱스 범위만 읽음
+    @Query("SELECT t FROM Todo t " +
+            "JOIN FETCH t.user " +
+            "ORDER BY t.modifiedAt DESC, t.id DESC")
+    List<Todo> findFirstPageWithUser(Limit limit);
+
+    @Query("SELECT t FROM Todo t " +
+            "JOIN FETCH t.user " +
+            "WHERE t.modifiedAt < :modifiedAt " +
+            "OR (t.modifiedAt = :modifiedAt AND t.id < :id) " +
+            "ORDER BY t.modifiedAt DESC, t.id DESC")
+    List<Todo> findNextPageWithUser(@Param("modifiedAt") LocalDateTime modifiedAt,
+                                    @Param("id") Long id,
+                                    Limit limit);
+
+    // export 용 스트리밍 조회, DTO 로 읽기 때문에 영속성 컨텍스트에 쌓이지 않음
+    // MySQL 은 JDBC URL 에 useCursorFetch=true 가 있어야 fetch size 만큼씩 읽음, 없으면 결과 전체를 메모리에 올림
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new org.example.expert.domain.todo.dto.response.TodoResponse(" +
+            "t.id, t.title, t.contents, t.weather, u.id, u.email, t.createdAt, t.modifiedAt) " +
+            "FROM Todo t JOIN t.user u " +
+            "ORDER BY t.id")
+    Stream<TodoResponse> streamAllTodoResponses();
 
     @Query("SELECT t FROM Todo t " +
             "LEFT JOIN FETCH t.user " +
@@ -26,4 +70,37 @@ public interface TodoRepository extends JpaRepository<Todo, Long> {
     Optional<Todo> findByIdWithUser(@Param("todoId") Long todoId);
 
     int countById(Long todoId);
+
+    // 소유자 확인용, 엔티티를 읽지 않고 user_id 컬럼만 조회
+    @Query("SELECT t.user.id FROM Todo t WHERE t.id = :todoId")
+    Optional<Long> findOwnerIdById(@Param("todoId") Long todoId);
+
+    // 날씨 대기 일정이 있는 날짜만 조회, (weather, created_at) 인덱스 범위만 읽음
+    @Query("SELECT DISTINCT CAST(t.createdAt AS LocalDate) FROM Todo t WHERE t.weather IS NULL " +
+            "ORDER BY CAST(t.createdAt AS LocalDate)")
+    List<LocalDate> findWeatherPendingDates();
+
+    // 같은 날짜에 생성된 날씨 대기 일정을 한 번의 UPDATE 로 채움
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Todo t SET t.weather = :weather " +
+            "WHERE t.weather IS NULL AND t.createdAt >= :from AND t.createdAt < :to")
+    int updatePendingWeather(@Param("weather") String weather,
+                             @Param("from") LocalDateTime from,
+                             @Param("to") LocalDateTime to);
+
+    // 조회에서 바로 빠지도록 먼저 표시만 하고, 댓글/담당자는 TodoDeleteService 가 chunk 단위로 지움
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Todo t SET t.deleted = true WHERE t.id = :todoId")
+    int markDeleted(@Param("todoId") Long todoId);
+
+    // @SQLRestriction 을 우회해야 하므로 native query
+    @Query(value = "SELECT id FROM todos WHERE deleted = true ORDER BY id LIMIT :limit", nativeQuery = true)
+    List<Long> findDeletedIds(@Param("limit") int limit);
+
+    // native DML 은 기본적으로 2차 캐시 전체를 비우므로 영향받는 테이블을 지정
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "todos"))
+    @Query(value = "DELETE FROM todos WHERE id = :todoId AND deleted = true", nativeQuery = true)
+    int purgeDeleted(@Param("todoId") Long todoId);
 }
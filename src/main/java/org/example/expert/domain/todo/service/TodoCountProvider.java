@@ -0,0 +1,59 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// 일정 목록 조회마다 count(*) 를 실행하지 않도록 전체 개수를 메모리에 유지
+// 저장/삭제 시 증감하고, 다른 노드의 변경은 주기적인 재집계로 맞춤
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TodoCountProvider {
+
+    private static final long UNINITIALIZED = -1L;
+
+    private final TodoRepository todoRepository;
+    private final AtomicLong approximateCount = new AtomicLong(UNINITIALIZED);
+
+    public long getApproximateCount() {
+        long count = approximateCount.get();
+        if (count == UNINITIALIZED) {
+            return reconcile();
+        }
+        return count;
+    }
+
+    public void addAfterCommit(long delta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            add(delta);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                add(delta);
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${todo.count.reconcile-interval:60000}")
+    public long reconcile() {
+        long count = todoRepository.count();
+        long previous = approximateCount.getAndSet(count);
+        if (previous != UNINITIALIZED && previous != count) {
+            log.debug("Todo count reconciled: {} -> {}", previous, count);
+        }
+        return count;
+    }
+
+    private void add(long delta) {
+        approximateCount.updateAndGet(count -> count == UNINITIALIZED ? UNINITIALIZED : Math.max(0, count + delta));
+    }
+}
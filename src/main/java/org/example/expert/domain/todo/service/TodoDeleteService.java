@@ -0,0 +1,160 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.comment.service.CommentListCache;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.response.TodoDeleteResponse;
+import org.example.expert.domain.todo.enums.TodoDeleteStatus;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+// 일정 삭제, 삭제 표시로 조회에서 먼저 빼고 댓글/담당자를 id chunk 단위 bulk delete 로 지운 뒤 일정을 지움
+// 댓글이 backgroundThreshold 개를 넘으면 todoPurgeExecutor 에 넘기고 바로 응답
+@Slf4j
+@Service
+public class TodoDeleteService {
+
+    private final TodoRepository todoRepository;
+    private final CommentRepository commentRepository;
+    private final ManagerRepository managerRepository;
+    private final TodoCountProvider todoCountProvider;
+    private final CommentListCache commentListCache;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskExecutor todoPurgeExecutor;
+
+    // 같은 일정을 요청 스레드와 주기 작업이 동시에 정리하거나 큐에 두 번 넣지 않도록 표시
+    private final Set<Long> purging = ConcurrentHashMap.newKeySet();
+
+    @Value("${todo.purge.chunk-size:1000}")
+    private int chunkSize = 1000;
+    @Value("${todo.purge.background-threshold:5000}")
+    private int backgroundThreshold = 5000;
+
+    public TodoDeleteService(
+            TodoRepository todoRepository,
+            CommentRepository commentRepository,
+            ManagerRepository managerRepository,
+            TodoCountProvider todoCountProvider,
+            CommentListCache commentListCache,
+            TransactionTemplate transactionTemplate,
+            @Qualifier("todoPurgeExecutor") TaskExecutor todoPurgeExecutor
+    ) {
+        this.todoRepository = todoRepository;
+        this.commentRepository = commentRepository;
+        this.managerRepository = managerRepository;
+        this.todoCountProvider = todoCountProvider;
+        this.commentListCache = commentListCache;
+        this.transactionTemplate = transactionTemplate;
+        this.todoPurgeExecutor = todoPurgeExecutor;
+    }
+
+    public TodoDeleteResponse deleteTodo(long userId, long todoId) {
+        Long ownerId = todoRepository.findOwnerIdById(todoId)
+                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+        if (!Objects.equals(ownerId, userId)) {
+            throw new InvalidRequestException("Not the Owner of Todo");
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (todoRepository.markDeleted(todoId) == 0) {
+                throw new InvalidRequestException("Todo not found");
+            }
+            todoCountProvider.addAfterCommit(-1);
+        });
+
+        if (hasMoreCommentsThanThreshold(todoId)) {
+            if (!submitPurge(todoId)) {
+                log.warn("Todo purge queue is full, leaving it to the scheduled purge: TodoId: {}", todoId);
+            }
+            return new TodoDeleteResponse(todoId, TodoDeleteStatus.PURGING);
+        }
+
+        // 정리 중 실패해도 일정은 이미 조회되지 않으므로 주기 작업이 이어서 정리
+        if (!purging.add(todoId)) {
+            return new TodoDeleteResponse(todoId, TodoDeleteStatus.PURGING);
+        }
+        return new TodoDeleteResponse(todoId, purge(todoId) ? TodoDeleteStatus.DELETED : TodoDeleteStatus.PURGING);
+    }
+
+    // 재시작이나 큐 거절로 남아 있는 삭제 표시 일정을 todoPurgeExecutor 에 넘김
+    // 공용 스케줄러 스레드를 오래 잡지 않도록 여기서는 id 만 고름
+    @Scheduled(fixedDelayString = "${todo.purge.interval:60000}")
+    public void purgeDeletedTodos() {
+        for (Long todoId : todoRepository.findDeletedIds(100)) {
+            if (!submitPurge(todoId)) {
+                return;
+            }
+        }
+    }
+
+    private boolean hasMoreCommentsThanThreshold(long todoId) {
+        return !commentRepository.findIdsByTodoId(todoId, PageRequest.of(backgroundThreshold, 1)).isEmpty();
+    }
+
+    // 이미 정리 중이거나 큐에 있으면 넘기지 않음, 큐가 가득 차면 false
+    private boolean submitPurge(long todoId) {
+        if (!purging.add(todoId)) {
+            return true;
+        }
+        try {
+            todoPurgeExecutor.execute(() -> purge(todoId));
+            return true;
+        } catch (TaskRejectedException e) {
+            purging.remove(todoId);
+            return false;
+        }
+    }
+
+    // purging 에 먼저 표시한 뒤 호출
+    private boolean purge(long todoId) {
+        try {
+            long comments = deleteInChunks(
+                    limit -> commentRepository.findIdsByTodoId(todoId, limit), commentRepository::deleteAllByIdIn);
+            long managers = deleteInChunks(
+                    limit -> managerRepository.findIdsByTodoId(todoId, limit), managerRepository::deleteAllByIdIn);
+            transactionTemplate.executeWithoutResult(status -> todoRepository.purgeDeleted(todoId));
+            commentListCache.evictAfterCommit(todoId);
+            log.debug("Todo purged: TodoId: {}, Comments: {}, Managers: {}", todoId, comments, managers);
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("Todo purge failed: TodoId: {}, Error: {}", todoId, e.getMessage());
+            return false;
+        } finally {
+            purging.remove(todoId);
+        }
+    }
+
+    // chunk 마다 별도 트랜잭션으로 id 를 읽고 바로 지움, 한 번에 지우는 행 수는 chunkSize 이하
+    private long deleteInChunks(Function<Limit, List<Long>> findIds, ToIntFunction<Collection<Long>> deleteByIds) {
+        long deleted = 0;
+        while (true) {
+            Integer count = transactionTemplate.execute(status -> {
+                List<Long> ids = findIds.apply(Limit.of(chunkSize));
+                return ids.isEmpty() ? 0 : deleteByIds.applyAsInt(ids);
+            });
+            int chunkDeleted = count == null ? 0 : count;
+            deleted += chunkDeleted;
+            if (chunkDeleted < chunkSize) {
+                return deleted;
+            }
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package org.example.expert.domain.todo.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.manager.dto.response.ManagerResponse;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+@Service
+public class TodoExportService {
+
+    // 한 번에 댓글/담당자를 IN 쿼리로 묶어 스트리밍할 일정 수
+    private static final int CHUNK_SIZE = 500;
+
+    private final TodoRepository todoRepository;
+    private final CommentRepository commentRepository;
+    private final ManagerRepository managerRepository;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter valueWriter;
+
+    public TodoExportService(
+            TodoRepository todoRepository,
+            CommentRepository commentRepository,
+            ManagerRepository managerRepository,
+            ObjectMapper objectMapper
+    ) {
+        this.todoRepository = todoRepository;
+        this.commentRepository = commentRepository;
+        this.managerRepository = managerRepository;
+        this.objectMapper = objectMapper;
+        // 값마다 flush 하지 않고 chunk 가 끝날 때 한 번만 flush
+        this.valueWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    // 하나의 읽기 전용 트랜잭션 안에서 스트리밍하므로 export 전체가 같은 시점의 데이터를 봄
+    @Transactional(readOnly = true)
+    public long exportTodos(OutputStream outputStream) throws IOException {
+        long exported = 0;
+
+        try (Stream<TodoResponse> todos = todoRepository.streamAllTodoResponses();
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+
+            Iterator<TodoResponse> iterator = todos.iterator();
+            List<TodoResponse> chunk = new ArrayList<>(CHUNK_SIZE);
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == CHUNK_SIZE || !iterator.hasNext()) {
+                    writeChunk(generator, chunk);
+                    exported += chunk.size();
+                    chunk.clear();
+                }
+            }
+        }
+
+        return exported;
+    }
+
+    // 한 줄 = {"todo":{...},"comments":[...],"managers":[...]}
+    // 댓글/담당자는 일정 id 순으로 정렬된 스트림을 일정 순서와 맞춰 가며 바로 쓰므로, 댓글이 많은 일정도 한 행씩만 메모리에 올라감
+    private void writeChunk(JsonGenerator generator, List<TodoResponse> chunk) throws IOException {
+        List<Long> todoIds = chunk.stream().map(TodoResponse::getId).toList();
+
+        try (Stream<Object[]> commentStream = commentRepository.streamRowsByTodoIdIn(todoIds);
+             Stream<Object[]> managerStream = managerRepository.streamRowsByTodoIdIn(todoIds)) {
+            RowCursor comments = new RowCursor(commentStream.iterator());
+            RowCursor managers = new RowCursor(managerStream.iterator());
+
+            for (TodoResponse todo : chunk) {
+                generator.writeStartObject();
+                generator.writeFieldName("todo");
+                valueWriter.writeValue(generator, todo);
+
+                generator.writeArrayFieldStart("comments");
+                while (comments.hasRowFor(todo.getId())) {
+                    Object[] row = comments.next();
+                    valueWriter.writeValue(generator,
+                            new CommentResponse((Long) row[1], (String) row[2], (Long) row[3], (String) row[4]));
+                }
+                generator.writeEndArray();
+
+                generator.writeArrayFieldStart("managers");
+                while (managers.hasRowFor(todo.getId())) {
+                    Object[] row = managers.next();
+                    valueWriter.writeValue(generator, new ManagerResponse((Long) row[1], (Long) row[2], (String) row[3]));
+                }
+                generator.writeEndArray();
+
+                generator.writeEndObject();
+                generator.writeRaw('\n');
+            }
+        }
+        generator.flush();
+    }
+
+    // 첫 컬럼(todoId)만 미리 보고 현재 일정의 행인지 판단하는 iterator
+    private static final class RowCursor {
+
+        private final Iterator<Object[]> iterator;
+        private Object[] current;
+
+        private RowCursor(Iterator<Object[]> iterator) {
+            this.iterator = iterator;
+            this.current = iterator.hasNext() ? iterator.next() : null;
+        }
+
+        private boolean hasRowFor(Long todoId) {
+            return current != null && todoId.equals(current[0]);
+        }
+
+        private Object[] next() {
+            Object[] row = current;
+            current = iterator.hasNext() ? iterator.next() : null;
+            return row;
+        }
+    }
+}
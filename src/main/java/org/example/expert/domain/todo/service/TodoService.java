@@ -1,36 +1,107 @@
 package org.example.expert.domain.todo.service;
 
-import lombok.RequiredArgsConstructor;
 import org.example.expert.client.WeatherClient;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.example.expert.domain.todo.dto.TodoCursor;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoCursorResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 
 @Service
-@RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class TodoService {
 
+    private static final String BUSY_MESSAGE = "요청이 많아 잠시 후 다시 시도해주세요.";
+    private static final long RETRY_AFTER_SECONDS = 1;
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final TodoRepository todoRepository;
     private final WeatherClient weatherClient;
+    private final TodoCountProvider todoCountProvider;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor ioExecutor;
+
+    // true 이면 날씨 조회 없이 저장하고 TodoWeatherEnricher 가 나중에 채움
+    @Value("${todo.weather.async:false}")
+    private boolean asyncWeather;
+    // saveTodoAsync 에서 날씨를 기다리는 최대 시간
+    @Value("${todo.weather.timeout:PT2S}")
+    private Duration weatherTimeout = Duration.ofSeconds(2);
+
+    public TodoService(
+            TodoRepository todoRepository,
+            WeatherClient weatherClient,
+            TodoCountProvider todoCountProvider,
+            TransactionTemplate transactionTemplate,
+            @Qualifier("ioExecutor") Executor ioExecutor
+    ) {
+        this.todoRepository = todoRepository;
+        this.weatherClient = weatherClient;
+        this.todoCountProvider = todoCountProvider;
+        this.transactionTemplate = transactionTemplate;
+        this.ioExecutor = ioExecutor;
+    }
 
     @Transactional
     public TodoSaveResponse saveTodo(AuthUser authUser, TodoSaveRequest todoSaveRequest) {
+        String weather = asyncWeather ? null : weatherClient.getTodayWeather();
+        return save(User.fromAuthUser(authUser), todoSaveRequest, weather);
+    }
+
+    // 날씨 조회와 저장을 ioExecutor 에서 실행하고 servlet 스레드는 바로 반환
+    // weatherTimeout 안에 날씨를 받지 못하면 날씨 없이 저장하고 TodoWeatherEnricher 가 나중에 채움
+    // ioExecutor 의 대기열이 가득 차면 503
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompletableFuture<TodoSaveResponse> saveTodoAsync(AuthUser authUser, TodoSaveRequest todoSaveRequest) {
         User user = User.fromAuthUser(authUser);
 
-        String weather = weatherClient.getTodayWeather();
+        // timeout 되면 같은 future 가 null 로 완료되므로 아직 ioExecutor 대기열에 있던 조회는 실행되지 않고 건너뜀
+        // 이미 시작된 조회는 취소할 수 없고 WeatherClient 의 connect/read timeout 안에 끝남
+        CompletableFuture<String> weather = asyncWeather
+                ? CompletableFuture.completedFuture(null)
+                : CompletableFuture.supplyAsync(weatherClient::getTodayWeather, this::executeIo)
+                        .completeOnTimeout(null, weatherTimeout.toMillis(), TimeUnit.MILLISECONDS);
 
+        // timeout 은 CompletableFuture 내부 타이머 스레드에서 완료되므로 저장은 다시 ioExecutor 로 넘김
+        return weather.thenApplyAsync(
+                todayWeather -> transactionTemplate.execute(status -> save(user, todoSaveRequest, todayWeather)),
+                this::executeIo);
+    }
+
+    private void executeIo(Runnable command) {
+        try {
+            ioExecutor.execute(command);
+        } catch (RejectedExecutionException e) {
+            throw new ServiceUnavailableException(BUSY_MESSAGE, RETRY_AFTER_SECONDS);
+        }
+    }
+
+    private TodoSaveResponse save(User user, TodoSaveRequest todoSaveRequest, String weather) {
         Todo newTodo = new Todo(
                 todoSaveRequest.getTitle(),
                 todoSaveRequest.getContents(),
@@ -38,36 +109,67 @@ public class TodoService {
                 user
         );
         Todo savedTodo = todoRepository.save(newTodo);
+        todoCountProvider.addAfterCommit(1);
 
         return new TodoSaveResponse(
                 savedTodo.getId(),
                 savedTodo.getTitle(),
                 savedTodo.getContents(),
                 weather,
-                new UserResponse(user.getId(), user.getEmail())
+                new UserResponse(user.getId(), user.getEmail()),
+                weather == null
         );
     }
 
-    public Page<TodoResponse> getTodos(int page, int size) {
+    // exactCount 가 false 이면 count 쿼리 대신 TodoCountProvider 의 캐시된 전체 개수를 사용
+    public Page<TodoResponse> getTodos(int page, int size, boolean exactCount) {
         Pageable pageable = PageRequest.of(page - 1, size);
 
-        Page<Todo> todos = todoRepository.findAllByOrderByModifiedAtDesc(pageable);
+        if (exactCount) {
+            return todoRepository.findTodoResponsePage(pageable);
+        }
 
-        return todos.map(todo -> new TodoResponse(
-                todo.getId(),
-                todo.getTitle(),
-                todo.getContents(),
-                todo.getWeather(),
-                new UserResponse(todo.getUser().getId(), todo.getUser().getEmail()),
-                todo.getCreatedAt(),
-                todo.getModifiedAt()
-        ));
+        List<TodoResponse> content = todoRepository.findTodoResponses(pageable);
+        return new PageImpl<>(content, pageable, todoCountProvider.getApproximateCount());
+    }
+
+    public TodoCursorResponse getTodosByCursor(String cursor, int size) {
+        // 상한이 없으면 size + 1 이 overflow 되거나 한 번에 전체를 읽을 수 있음
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new InvalidRequestException("size 는 1 이상 " + MAX_CURSOR_PAGE_SIZE + " 이하여야 합니다.");
+        }
+
+        // 다음 페이지 존재 여부를 알기 위해 하나 더 조회
+        Limit limit = Limit.of(size + 1);
+
+        List<Todo> todos;
+        if (cursor == null || cursor.isBlank()) {
+            todos = todoRepository.findFirstPageWithUser(limit);
+        } else {
+            TodoCursor todoCursor = TodoCursor.decode(cursor);
+            todos = todoRepository.findNextPageWithUser(todoCursor.getModifiedAt(), todoCursor.getId(), limit);
+        }
+
+        boolean hasNext = todos.size() > size;
+        List<Todo> page = hasNext ? todos.subList(0, size) : todos;
+
+        String nextCursor = null;
+        if (hasNext) {
+            Todo last = page.get(page.size() - 1);
+            nextCursor = new TodoCursor(last.getModifiedAt(), last.getId()).encode();
+        }
+
+        return new TodoCursorResponse(page.stream().map(this::toTodoResponse).toList(), nextCursor, hasNext);
     }
 
     public TodoResponse getTodo(long todoId) {
         Todo todo = todoRepository.findByIdWithUser(todoId)
                 .orElseThrow(() -> new InvalidRequestException("Todo not found"));
 
+        return toTodoResponse(todo);
+    }
+
+    private TodoResponse toTodoResponse(Todo todo) {
         User user = todo.getUser();
 
         return new TodoResponse(
@@ -0,0 +1,44 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+// 날씨 없이 저장된 일정에 날씨를 채움 (날짜별 UPDATE 한 번)
+// todo.weather.async=true 이거나 POST /todos/async 에서 날씨 조회가 timeout 되면 생기므로 설정과 관계없이 항상 실행
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TodoWeatherEnricher {
+
+    private final TodoRepository todoRepository;
+    private final WeatherClient weatherClient;
+
+    @Scheduled(fixedDelayString = "${todo.weather.enrichment-interval:5000}")
+    public void enrichPendingWeather() {
+        for (LocalDate date : todoRepository.findWeatherPendingDates()) {
+            Optional<String> weather;
+            try {
+                weather = weatherClient.findRecordedWeather(date);
+            } catch (RuntimeException e) {
+                // 날씨 데이터를 받지 못하면 다른 날짜도 실패하므로 다음 주기에 다시 시도
+                log.warn("Weather enrichment failed: Error: {}", e.getMessage());
+                return;
+            }
+            // 데이터에 없는 날짜(예: 02-29)는 남겨 두고 다음 날짜를 채움, fallback 값은 쓰지 않음
+            if (weather.isEmpty()) {
+                log.debug("Weather not found, skipping: Date: {}", date);
+                continue;
+            }
+            int updated = todoRepository.updatePendingWeather(
+                    weather.get(), date.atStartOfDay(), date.plusDays(1).atStartOfDay());
+            log.debug("Weather enriched: Date: {}, Updated: {}", date, updated);
+        }
+    }
+}
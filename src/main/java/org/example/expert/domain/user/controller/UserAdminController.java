@@ -2,20 +2,43 @@ package org.example.expert.domain.user.controller;
 
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.user.dto.request.UserRoleChangeRequest;
+import org.example.expert.domain.user.dto.response.UserImportResponse;
+import org.example.expert.domain.user.enums.UserImportFormat;
 import org.example.expert.domain.user.service.UserAdminService;
+import org.example.expert.domain.user.service.UserImportService;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
+import java.io.InputStream;
+
 @RestController
 @RequiredArgsConstructor
 public class UserAdminController {
 
+    private static final String TEXT_CSV_VALUE = "text/csv";
+
     private final UserAdminService userAdminService;
+    private final UserImportService userImportService;
 
     @PatchMapping("/admin/users/{userId}")
     public void changeUserRole(@PathVariable long userId, @RequestBody UserRoleChangeRequest userRoleChangeRequest) {
         userAdminService.changeUserRole(userId, userRoleChangeRequest);
     }
+
+    // 요청 본문을 한 줄씩 읽어 처리하므로 본문 전체를 메모리에 올리지 않음
+    @PostMapping(value = "/admin/users/import", consumes = TEXT_CSV_VALUE)
+    public ResponseEntity<UserImportResponse> importUsersCsv(InputStream inputStream) throws IOException {
+        return ResponseEntity.ok(userImportService.importUsers(inputStream, UserImportFormat.CSV));
+    }
+
+    @PostMapping(value = "/admin/users/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<UserImportResponse> importUsersNdjson(InputStream inputStream) throws IOException {
+        return ResponseEntity.ok(userImportService.importUsers(inputStream, UserImportFormat.NDJSON));
+    }
 }
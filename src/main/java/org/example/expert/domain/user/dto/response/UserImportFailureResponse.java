@@ -0,0 +1,17 @@
+package org.example.expert.domain.user.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class UserImportFailureResponse {
+
+    private final int line; // 입력 파일에서의 줄 번호 (1부터)
+    private final String email;
+    private final String message;
+
+    public UserImportFailureResponse(int line, String email, String message) {
+        this.line = line;
+        this.email = email;
+        this.message = message;
+    }
+}
@@ -0,0 +1,20 @@
+package org.example.expert.domain.user.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class UserImportResponse {
+
+    private final int requested;
+    private final int imported;
+    // 수만 건을 가져올 때 응답이 커지지 않도록 실패한 줄만 담음
+    private final List<UserImportFailureResponse> failures;
+
+    public UserImportResponse(int requested, int imported, List<UserImportFailureResponse> failures) {
+        this.requested = requested;
+        this.imported = imported;
+        this.failures = failures;
+    }
+}
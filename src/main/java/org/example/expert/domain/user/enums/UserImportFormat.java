@@ -0,0 +1,5 @@
+package org.example.expert.domain.user.enums;
+
+public enum UserImportFormat {
+    CSV, NDJSON
+}
@@ -0,0 +1,12 @@
+package org.example.expert.domain.user.repository;
+
+import org.example.expert.domain.user.entity.User;
+
+import java.util.Optional;
+
+public interface UserRepositoryCustom {
+
+    // 로그인 전용, email(natural id) -> id 는 2차 캐시에서 찾고 User 는 항상 DB 에서 읽음
+    // 다른 노드에서 바뀐 비밀번호/권한이 이 노드의 2차 캐시에 남아 있을 수 있기 때문
+    Optional<User> findCredentialsByEmail(String email);
+}
@@ -0,0 +1,33 @@
+package org.example.expert.domain.user.repository;
+
+import jakarta.persistence.CacheRetrieveMode;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.user.entity.User;
+import org.hibernate.Session;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+import java.util.Optional;
+
+@RequiredArgsConstructor
+public class UserRepositoryImpl implements UserRepositoryCustom {
+
+    private final EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<User> findCredentialsByEmail(String email) {
+        Session session = entityManager.unwrap(Session.class);
+        // 엔티티를 읽지 않는 proxy 로 id 만 얻음
+        User reference = session.bySimpleNaturalId(User.class).getReference(email);
+        if (reference == null) {
+            return Optional.empty();
+        }
+        Object id = session.getIdentifier(reference);
+        session.detach(reference);
+        return Optional.ofNullable(session.find(User.class, id,
+                Map.of(SpecHints.HINT_SPEC_CACHE_RETRIEVE_MODE, CacheRetrieveMode.BYPASS)));
+    }
+}
@@ -0,0 +1,207 @@
+package org.example.expert.domain.user.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.config.PasswordEncoder;
+import org.example.expert.domain.auth.dto.request.SignupRequest;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.user.dto.response.UserImportFailureResponse;
+import org.example.expert.domain.user.dto.response.UserImportResponse;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserImportFormat;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+// 유저 대량 가입, chunkSize 개마다 이메일 중복은 IN 쿼리 한 번으로 확인하고 비밀번호는 병렬로 해시한 뒤 batch insert
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserImportService {
+
+    private static final String CSV_HEADER_PREFIX = "email,";
+
+    private final UserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+
+    @Value("${user.import.chunk-size:1000}")
+    private int chunkSize = 1000;
+
+    // 전체 입력을 메모리에 올리지 않고 chunk 만큼만 들고 있음
+    public UserImportResponse importUsers(InputStream inputStream, UserImportFormat format) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        // 같은 파일 안에서 중복된 이메일, 이메일 문자열만 들고 있으므로 수만 건이어도 작음
+        Set<String> seenEmails = new HashSet<>();
+        List<UserImportFailureResponse> failures = new ArrayList<>();
+        List<ImportRow> chunk = new ArrayList<>(chunkSize);
+        int requested = 0;
+        int imported = 0;
+        int lineNumber = 0;
+
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank() || (lineNumber == 1 && isCsvHeader(format, line))) {
+                continue;
+            }
+            requested++;
+
+            SignupRequest request;
+            UserRole userRole;
+            try {
+                request = parse(format, line);
+                validate(request);
+                userRole = UserRole.of(request.getUserRole());
+            } catch (InvalidRequestException e) {
+                failures.add(new UserImportFailureResponse(lineNumber, null, e.getMessage()));
+                continue;
+            }
+            if (!seenEmails.add(request.getEmail())) {
+                failures.add(new UserImportFailureResponse(lineNumber, request.getEmail(), "파일 안에서 중복된 이메일입니다."));
+                continue;
+            }
+
+            chunk.add(new ImportRow(lineNumber, request.getEmail(), request.getPassword(), userRole));
+            if (chunk.size() == chunkSize) {
+                imported += importChunk(chunk, failures);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            imported += importChunk(chunk, failures);
+        }
+
+        failures.sort(Comparator.comparingInt(UserImportFailureResponse::getLine));
+        return new UserImportResponse(requested, imported, failures);
+    }
+
+    private int importChunk(List<ImportRow> chunk, List<UserImportFailureResponse> failures) {
+        Set<String> existingEmails = new HashSet<>(
+                userRepository.findEmailsByEmailIn(chunk.stream().map(ImportRow::getEmail).toList()));
+
+        List<ImportRow> rows = new ArrayList<>(chunk.size());
+        for (ImportRow row : chunk) {
+            if (existingEmails.contains(row.getEmail())) {
+                failures.add(new UserImportFailureResponse(row.getLine(), row.getEmail(), "이미 존재하는 이메일입니다."));
+            } else {
+                rows.add(row);
+            }
+        }
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        // 트랜잭션 밖에서 해시해 bcrypt 동안 커넥션을 잡고 있지 않음
+        List<String> encodedPasswords = passwordEncoder.encodeAll(rows.stream().map(ImportRow::getPassword).toList());
+        List<User> users = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            ImportRow row = rows.get(i);
+            users.add(new User(row.getEmail(), encodedPasswords.get(i), row.getUserRole()));
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                userRepository.saveAll(users);
+                entityManager.flush();
+            });
+            return users.size();
+        } catch (RuntimeException e) {
+            // 확인 이후 다른 요청이 같은 이메일로 가입한 경우 등, chunk 전체가 롤백됨
+            log.warn("User import chunk failed: Size: {}, Error: {}", users.size(), e.getMessage());
+            for (ImportRow row : rows) {
+                failures.add(new UserImportFailureResponse(row.getLine(), row.getEmail(), "저장에 실패했습니다."));
+            }
+            return 0;
+        } finally {
+            entityManager.clear();
+        }
+    }
+
+    private boolean isCsvHeader(UserImportFormat format, String line) {
+        return format == UserImportFormat.CSV && line.stripLeading().toLowerCase(Locale.ROOT).startsWith(CSV_HEADER_PREFIX);
+    }
+
+    private SignupRequest parse(UserImportFormat format, String line) {
+        if (format == UserImportFormat.NDJSON) {
+            try {
+                return objectMapper.readValue(line, SignupRequest.class);
+            } catch (JsonProcessingException e) {
+                throw new InvalidRequestException("JSON 형식이 올바르지 않습니다.");
+            }
+        }
+
+        // email,password,userRole - 비밀번호에 ',' 가 들어갈 수 있으므로 첫 번째와 마지막 ',' 로만 나눔
+        int first = line.indexOf(',');
+        int last = line.lastIndexOf(',');
+        if (first < 0 || first == last) {
+            throw new InvalidRequestException("email,password,userRole 형식이어야 합니다.");
+        }
+        return new SignupRequest(
+                line.substring(0, first).trim(),
+                line.substring(first + 1, last),
+                line.substring(last + 1).trim()
+        );
+    }
+
+    private void validate(SignupRequest request) {
+        Set<ConstraintViolation<SignupRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            ConstraintViolation<SignupRequest> violation = violations.iterator().next();
+            throw new InvalidRequestException(violation.getPropertyPath() + ": " + violation.getMessage());
+        }
+    }
+
+    private static final class ImportRow {
+
+        private final int line;
+        private final String email;
+        private final String password;
+        private final UserRole userRole;
+
+        private ImportRow(int line, String email, String password, UserRole userRole) {
+            this.line = line;
+            this.email = email;
+            this.password = password;
+            this.userRole = userRole;
+        }
+
+        int getLine() {
+            return line;
+        }
+
+        String getEmail() {
+            return email;
+        }
+
+        String getPassword() {
+            return password;
+        }
+
+        UserRole getUserRole() {
+            return userRole;
+        }
+    }
+}
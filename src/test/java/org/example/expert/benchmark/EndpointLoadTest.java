@@ -0,0 +1,373 @@
+package org.example.expert.benchmark;
+
+import at.favre.lib.crypto.bcrypt.BCrypt;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 합성 데이터를 넣은 H2 위에 애플리케이션 전체를 띄우고 주요 API 의 지연 시간 분포와 처리량을 측정
+// 날씨 API 는 로컬 대체 서버가 응답하므로 네트워크가 필요 없음
+// ./gradlew loadTest -Pload.users=100000 -Pload.todos=1000000 -Pload.comments=5000000 -Pload.clients=64 -PloadHeap=6g
+// 결과는 build/reports/load/results.json
+@Tag("load")
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                // 같은 주소에서 모든 클라이언트가 로그인하므로 시도 제한을 사실상 끔
+                "auth.signin.throttle.email.burst=1000000",
+                "auth.signin.throttle.address.burst=1000000",
+                "logging.level.root=WARN"
+        })
+class EndpointLoadTest {
+
+    private static final int USERS = Integer.getInteger("load.users", 10_000);
+    private static final int TODOS = Integer.getInteger("load.todos", 100_000);
+    private static final int COMMENTS = Integer.getInteger("load.comments", 500_000);
+    private static final int CLIENTS = Integer.getInteger("load.clients", 32);
+    private static final Duration WARMUP = Duration.parse(System.getProperty("load.warmup", "PT5S"));
+    private static final Duration DURATION = Duration.parse(System.getProperty("load.duration", "PT30S"));
+    private static final String OUTPUT = System.getProperty("load.output", "build/reports/load/results.json");
+    // INSERT ... SELECT 한 번에 넣는 행 수, 한 트랜잭션의 undo log 가 너무 커지지 않도록 나눔
+    private static final int SEED_CHUNK_SIZE = 100_000;
+    private static final String PASSWORD = "password";
+
+    private static final HttpServer weatherServer = startWeatherServer();
+
+    @LocalServerPort
+    private int port;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    @DynamicPropertySource
+    static void weatherProperties(DynamicPropertyRegistry registry) {
+        registry.add("weather.base-url", () -> "http://localhost:" + weatherServer.getAddress().getPort());
+    }
+
+    @AfterAll
+    static void stopWeatherServer() {
+        weatherServer.stop(0);
+    }
+
+    @Test
+    void runLoad() throws Exception {
+        long seedStart = System.nanoTime();
+        seed();
+        long seedMillis = (System.nanoTime() - seedStart) / 1_000_000;
+        System.out.printf("[load] seeded users=%d todos=%d comments=%d in %dms%n", USERS, TODOS, COMMENTS, seedMillis);
+
+        run(WARMUP, false);
+        List<Map<Endpoint, long[]>> perClient = run(DURATION, true);
+
+        List<Map<String, Object>> endpoints = new ArrayList<>();
+        long total = 0;
+        for (Endpoint endpoint : Endpoint.values()) {
+            Map<String, Object> result = summarize(endpoint, perClient);
+            total += (long) result.get("requests");
+            endpoints.add(result);
+            System.out.printf("[load] %-28s requests=%d errors=%d throughput=%.1f/s p50=%.2fms p95=%.2fms p99=%.2fms%n",
+                    endpoint.label, result.get("requests"), result.get("errors"), result.get("throughputPerSecond"),
+                    result.get("p50Millis"), result.get("p95Millis"), result.get("p99Millis"));
+        }
+
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("users", USERS);
+        config.put("todos", TODOS);
+        config.put("comments", COMMENTS);
+        config.put("clients", CLIENTS);
+        config.put("warmupSeconds", WARMUP.toSeconds());
+        config.put("durationSeconds", DURATION.toSeconds());
+        config.put("seedMillis", seedMillis);
+        config.put("maxHeapBytes", Runtime.getRuntime().maxMemory());
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("config", config);
+        report.put("endpoints", endpoints);
+        File output = new File(OUTPUT);
+        output.getAbsoluteFile().getParentFile().mkdirs();
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(output, report);
+        System.out.println("[load] report written to " + output.getAbsolutePath());
+
+        assertTrue(total > 0);
+    }
+
+    // JPA 를 거치지 않고 H2 의 SYSTEM_RANGE 로 INSERT ... SELECT 해서 수백만 건도 빠르게 넣음
+    private void seed() {
+        String encodedPassword = BCrypt.withDefaults().hashToString(BCrypt.MIN_COST, PASSWORD.toCharArray());
+
+        seedRange(USERS, (from, to) -> jdbcTemplate.update(
+                "INSERT INTO users (id, email, password, user_role, token_version, created_at, modified_at) " +
+                        "SELECT X, CONCAT('user', X, '@load.test'), ?, 'USER', 0, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP " +
+                        "FROM SYSTEM_RANGE(?, ?)", encodedPassword, from, to));
+        // 일정마다 작성자가 담당자로 등록되는 애플리케이션 동작과 같게 managers 도 함께 넣음
+        seedRange(TODOS, (from, to) -> {
+            jdbcTemplate.update(
+                    "INSERT INTO todos (id, title, contents, weather, deleted, user_id, created_at, modified_at) " +
+                            "SELECT X, CONCAT('title', X), CONCAT('contents', X), 'Sunny', FALSE, MOD(X - 1, ?) + 1, " +
+                            "DATEADD('SECOND', -X, CURRENT_TIMESTAMP), DATEADD('SECOND', -X, CURRENT_TIMESTAMP) " +
+                            "FROM SYSTEM_RANGE(?, ?)", USERS, from, to);
+            jdbcTemplate.update(
+                    "INSERT INTO managers (id, user_id, todo_id) " +
+                            "SELECT X, MOD(X - 1, ?) + 1, X FROM SYSTEM_RANGE(?, ?)", USERS, from, to);
+        });
+        seedRange(COMMENTS, (from, to) -> jdbcTemplate.update(
+                "INSERT INTO comments (id, contents, user_id, todo_id, created_at, modified_at) " +
+                        "SELECT X, CONCAT('comment', X), MOD(X - 1, ?) + 1, MOD(X - 1, ?) + 1, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP " +
+                        "FROM SYSTEM_RANGE(?, ?)", USERS, TODOS, from, to));
+
+        // pooled sequence 는 받아온 값 아래 allocationSize 만큼을 쓰므로 넉넉히 건너뜀
+        restartSequence("users_seq", USERS);
+        restartSequence("todos_seq", TODOS);
+        restartSequence("managers_seq", TODOS);
+        restartSequence("comments_seq", COMMENTS);
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    private void seedRange(int count, RangeInsert insert) {
+        for (long from = 1; from <= count; from += SEED_CHUNK_SIZE) {
+            insert.insert(from, Math.min(count, from + SEED_CHUNK_SIZE - 1));
+        }
+    }
+
+    private void restartSequence(String sequence, long seeded) {
+        jdbcTemplate.execute("ALTER SEQUENCE " + sequence + " RESTART WITH " + (seeded + 100));
+    }
+
+    private List<Map<Endpoint, long[]>> run(Duration duration, boolean record) throws Exception {
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+        try {
+            long deadline = System.nanoTime() + duration.toNanos();
+            List<Future<Map<Endpoint, long[]>>> futures = new ArrayList<>(CLIENTS);
+            for (int i = 0; i < CLIENTS; i++) {
+                futures.add(clients.submit(() -> client(deadline, record)));
+            }
+            List<Map<Endpoint, long[]>> results = new ArrayList<>(CLIENTS);
+            for (Future<Map<Endpoint, long[]>> future : futures) {
+                results.add(future.get(duration.toSeconds() + 60, TimeUnit.SECONDS));
+            }
+            return results;
+        } finally {
+            clients.shutdownNow();
+        }
+    }
+
+    // 클라이언트 하나가 임의의 유저로 로그인한 뒤 모든 API 를 차례로 호출
+    // 반환값의 long[] 은 [0] 에 오류 수, 나머지에 성공한 요청의 지연 시간(ns)
+    private Map<Endpoint, long[]> client(long deadline, boolean record) throws Exception {
+        Map<Endpoint, LatencyRecorder> recorders = new EnumMap<>(Endpoint.class);
+        for (Endpoint endpoint : Endpoint.values()) {
+            recorders.put(endpoint, new LatencyRecorder());
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String token = signin(random.nextInt(USERS) + 1);
+
+        while (System.nanoTime() < deadline) {
+            for (Endpoint endpoint : Endpoint.values()) {
+                long start = System.nanoTime();
+                int status;
+                if (endpoint == Endpoint.SIGNIN) {
+                    status = post("/auth/signin", signinBody(random.nextInt(USERS) + 1));
+                } else {
+                    long todoId = random.nextLong(TODOS) + 1;
+                    String path = switch (endpoint) {
+                        case TODOS -> "/todos?page=" + (random.nextInt(100) + 1) + "&size=10";
+                        case TODO -> "/todos/" + todoId;
+                        case COMMENTS -> "/todos/" + todoId + "/comments";
+                        case MANAGERS -> "/todos/" + todoId + "/managers";
+                        default -> throw new IllegalStateException(endpoint.name());
+                    };
+                    status = get(path, token);
+                }
+                if (record) {
+                    recorders.get(endpoint).record(status, System.nanoTime() - start);
+                }
+            }
+        }
+
+        Map<Endpoint, long[]> result = new EnumMap<>(Endpoint.class);
+        recorders.forEach((endpoint, recorder) -> result.put(endpoint, recorder.toArray()));
+        return result;
+    }
+
+    private String signin(int userId) throws IOException, InterruptedException {
+        HttpResponse<String> response = httpClient.send(
+                HttpRequest.newBuilder(uri("/auth/signin"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(signinBody(userId)))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+        return objectMapper.readTree(response.body()).get("bearerToken").asText();
+    }
+
+    private int get(String path, String token) throws IOException, InterruptedException {
+        return httpClient.send(
+                HttpRequest.newBuilder(uri(path)).header("Authorization", token).GET().build(),
+                HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private int post(String path, String body) throws IOException, InterruptedException {
+        return httpClient.send(
+                HttpRequest.newBuilder(uri(path))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(body))
+                        .build(),
+                HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private String signinBody(int userId) {
+        return "{\"email\":\"user" + userId + "@load.test\",\"password\":\"" + PASSWORD + "\"}";
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private Map<String, Object> summarize(Endpoint endpoint, List<Map<Endpoint, long[]>> perClient) {
+        long errors = 0;
+        int size = 0;
+        for (Map<Endpoint, long[]> client : perClient) {
+            long[] recorded = client.get(endpoint);
+            errors += recorded[0];
+            size += recorded.length - 1;
+        }
+        long[] latencies = new long[size];
+        int offset = 0;
+        for (Map<Endpoint, long[]> client : perClient) {
+            long[] recorded = client.get(endpoint);
+            System.arraycopy(recorded, 1, latencies, offset, recorded.length - 1);
+            offset += recorded.length - 1;
+        }
+        Arrays.sort(latencies);
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("endpoint", endpoint.label);
+        result.put("requests", size + errors);
+        result.put("errors", errors);
+        result.put("throughputPerSecond", (size + errors) / (DURATION.toNanos() / 1e9));
+        result.put("p50Millis", percentile(latencies, 0.50));
+        result.put("p95Millis", percentile(latencies, 0.95));
+        result.put("p99Millis", percentile(latencies, 0.99));
+        result.put("maxMillis", latencies.length == 0 ? 0.0 : latencies[latencies.length - 1] / 1e6);
+        return result;
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0.0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+
+    // 실제 weather.json 과 같은 형식으로 1년치 날씨를 돌려주는 로컬 대체 서버
+    private static HttpServer startWeatherServer() {
+        try {
+            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MM-dd");
+            StringBuilder json = new StringBuilder("[");
+            LocalDate date = LocalDate.of(2024, 1, 1);
+            for (int i = 0; i < 366; i++, date = date.plusDays(1)) {
+                json.append(i == 0 ? "" : ",")
+                        .append("{\"date\":\"").append(date.format(formatter)).append("\",\"weather\":\"Sunny\"}");
+            }
+            byte[] body = json.append(']').toString().getBytes(StandardCharsets.UTF_8);
+
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.createContext("/f-api/weather.json", exchange -> {
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream outputStream = exchange.getResponseBody()) {
+                    outputStream.write(body);
+                }
+            });
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private enum Endpoint {
+        TODOS("GET /todos"),
+        TODO("GET /todos/{todoId}"),
+        COMMENTS("GET /todos/{todoId}/comments"),
+        MANAGERS("GET /todos/{todoId}/managers"),
+        SIGNIN("POST /auth/signin");
+
+        private final String label;
+
+        Endpoint(String label) {
+            this.label = label;
+        }
+    }
+
+    @FunctionalInterface
+    private interface RangeInsert {
+        void insert(long from, long to);
+    }
+
+    // 성공한 요청의 지연 시간만 분포에 넣고 2xx 가 아닌 응답은 오류로 셈
+    private static final class LatencyRecorder {
+
+        private long[] latencies = new long[1024];
+        private int size;
+        private long errors;
+
+        void record(int status, long nanos) {
+            if (status < 200 || status >= 300) {
+                errors++;
+                return;
+            }
+            if (size == latencies.length) {
+                latencies = Arrays.copyOf(latencies, size * 2);
+            }
+            latencies[size++] = nanos;
+        }
+
+        long[] toArray() {
+            long[] result = new long[size + 1];
+            result[0] = errors;
+            System.arraycopy(latencies, 0, result, 1, size);
+            return result;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package org.example.expert.benchmark;
+
+import org.example.expert.config.JwtUtil;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// platform thread 모드와 virtual thread 모드에서 고정된 heap 으로 동시에 처리 중인 요청 수 비교
+// 요청마다 BLOCK_MILLIS 동안 I/O(날씨 API, JDBC) 를 기다리는 상황을 sleep 으로 흉내냄
+// ./gradlew benchmarkTest --tests '*InFlightCapacity*'
+// ./gradlew benchmarkTest --tests '*InFlightCapacity*' -PjavaVersion=21 -PspringProfiles=virtual-threads
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class InFlightCapacityBenchmarkTest {
+
+    private static final int REQUESTS = 2_000;
+    private static final long BLOCK_MILLIS = 1_000;
+
+    @LocalServerPort
+    private int port;
+    @Autowired
+    private JwtUtil jwtUtil;
+    @Autowired
+    private Environment environment;
+    @Autowired
+    private BlockingController blockingController;
+
+    @Test
+    void measurePeakInFlightRequests() {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/benchmark/blocking"))
+                .header("Authorization", jwtUtil.createToken(1L, "bench@a.com", UserRole.USER, 0))
+                .timeout(Duration.ofMinutes(2))
+                .build();
+
+        long start = System.nanoTime();
+        List<CompletableFuture<HttpResponse<Void>>> responses = new ArrayList<>(REQUESTS);
+        for (int i = 0; i < REQUESTS; i++) {
+            responses.add(httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding()));
+        }
+        long succeeded = responses.stream().map(CompletableFuture::join).filter(r -> r.statusCode() == 200).count();
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        String mode = environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false)
+                && Runtime.version().feature() >= 21 ? "virtual" : "platform";
+        System.out.printf("[benchmark] mode=%s java=%d maxHeap=%dMB requests=%d ok=%d peakInFlight=%d " +
+                        "heapUsedAtPeak=%dMB liveThreadsAtPeak=%d elapsed=%dms%n",
+                mode, Runtime.version().feature(), Runtime.getRuntime().maxMemory() / 1024 / 1024,
+                REQUESTS, succeeded, blockingController.peakInFlight.get(),
+                blockingController.heapUsedAtPeak.get() / 1024 / 1024,
+                blockingController.liveThreadsAtPeak.get(), elapsedMillis);
+
+        assertEquals(REQUESTS, succeeded);
+    }
+
+    @TestConfiguration
+    static class BlockingControllerConfig {
+
+        @Bean
+        BlockingController blockingController() {
+            return new BlockingController();
+        }
+    }
+
+    @RestController
+    static class BlockingController {
+
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicInteger peakInFlight = new AtomicInteger();
+        private final AtomicLong heapUsedAtPeak = new AtomicLong();
+        private final AtomicInteger liveThreadsAtPeak = new AtomicInteger();
+
+        @GetMapping("/benchmark/blocking")
+        public void blocking() throws InterruptedException {
+            int current = inFlight.incrementAndGet();
+            if (current > peakInFlight.getAndAccumulate(current, Math::max)) {
+                heapUsedAtPeak.set(Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory());
+                // virtual thread 는 포함되지 않으므로 platform thread 수만 셈
+                liveThreadsAtPeak.set(ManagementFactory.getThreadMXBean().getThreadCount());
+            }
+            try {
+                Thread.sleep(BLOCK_MILLIS);
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package org.example.expert.benchmark;
+
+import org.example.expert.config.config.PersistenceConfig;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// 엔티티 조회 후 DTO 변환 vs DTO projection 조회의 지연 시간과 할당량 비교
+// ./gradlew benchmarkTest 로 실행 (일반 test 에서는 제외)
+@Tag("benchmark")
+@DataJpaTest
+@Import(PersistenceConfig.class)
+class ReadPathBenchmarkTest {
+
+    private static final int TODO_COUNT = 2_000;
+    private static final int COMMENT_COUNT = 500;
+    private static final int PAGE_SIZE = 100;
+    private static final int WARMUP = 50;
+    private static final int ITERATIONS = 200;
+
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Long todoId;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.save(new User("bench@a.com", "password", UserRole.USER));
+        Todo first = null;
+        for (int i = 0; i < TODO_COUNT; i++) {
+            Todo todo = todoRepository.save(new Todo("title" + i, "contents" + i, "Sunny", user));
+            if (first == null) {
+                first = todo;
+            }
+        }
+        List<Comment> comments = new ArrayList<>();
+        for (int i = 0; i < COMMENT_COUNT; i++) {
+            comments.add(new Comment("comment" + i, user, first));
+        }
+        commentRepository.saveAll(comments);
+        entityManager.flush();
+        entityManager.clear();
+        todoId = first.getId();
+    }
+
+    @Test
+    void compareTodoListReadPaths() {
+        // DTO projection 이전의 엔티티 조회 방식
+        Result entity = measure("todos/entity", () -> entityManager.getEntityManager()
+                .createQuery("SELECT t FROM Todo t JOIN FETCH t.user ORDER BY t.modifiedAt DESC", Todo.class)
+                .setMaxResults(PAGE_SIZE)
+                .getResultList()
+                .stream()
+                .map(todo -> new TodoResponse(todo.getId(), todo.getTitle(), todo.getContents(), todo.getWeather(),
+                        new UserResponse(todo.getUser().getId(), todo.getUser().getEmail()),
+                        todo.getCreatedAt(), todo.getModifiedAt()))
+                .toList());
+        Result projection = measure("todos/projection", () -> todoRepository
+                .findTodoResponses(PageRequest.of(0, PAGE_SIZE)));
+
+        assertEquals(entity.size, projection.size);
+    }
+
+    @Test
+    void compareCommentListReadPaths() {
+        Result entity = measure("comments/entity", () -> entityManager.getEntityManager()
+                .createQuery("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.todo.id = :todoId", Comment.class)
+                .setParameter("todoId", todoId)
+                .getResultList()
+                .stream()
+                .map(comment -> new CommentResponse(comment.getId(), comment.getContents(),
+                        new UserResponse(comment.getUser().getId(), comment.getUser().getEmail())))
+                .toList());
+        Result projection = measure("comments/projection", () -> commentRepository.findResponsesByTodoId(todoId));
+
+        assertEquals(entity.size, projection.size);
+    }
+
+    private Result measure(String name, Supplier<List<?>> readPath) {
+        for (int i = 0; i < WARMUP; i++) {
+            readPath.get();
+            entityManager.clear();
+        }
+
+        com.sun.management.ThreadMXBean threadMXBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long allocatedBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        int size = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            size = readPath.get().size();
+            // 매 반복을 새 요청처럼 측정하기 위해 영속성 컨텍스트를 비움
+            entityManager.clear();
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        Result result = new Result(size, elapsed / ITERATIONS / 1_000.0, allocated / ITERATIONS / 1024.0);
+        System.out.printf("[benchmark] %-22s rows=%d  avg=%.1f us/op  alloc=%.1f KB/op%n",
+                name, result.size, result.micros, result.kilobytes);
+        return result;
+    }
+
+    private record Result(int size, double micros, double kilobytes) {
+    }
+}
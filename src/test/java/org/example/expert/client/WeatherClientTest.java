@@ -0,0 +1,135 @@
+package org.example.expert.client;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.web.client.MockServerRestTemplateCustomizer;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.client.ExpectedCount.once;
+import static org.springframework.test.web.client.ExpectedCount.times;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class WeatherClientTest {
+
+    private static final String WEATHER_URL = "https://f-api.github.io/f-api/weather.json";
+
+    private WeatherClient weatherClient;
+    private MockRestServiceServer server;
+    private CircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        circuitBreaker = CircuitBreaker.of("weather", CircuitBreakerConfig.custom()
+                .slidingWindowSize(2)
+                .minimumNumberOfCalls(2)
+                .failureRateThreshold(50)
+                .build());
+        weatherClient = createWeatherClient("");
+    }
+
+    private WeatherClient createWeatherClient(String fallbackWeather) {
+        MockServerRestTemplateCustomizer customizer = new MockServerRestTemplateCustomizer();
+        WeatherClient client = new WeatherClient(
+                new RestTemplateBuilder(customizer),
+                new SimpleClientHttpRequestFactory(),
+                circuitBreaker,
+                new SimpleMeterRegistry(),
+                Duration.ofHours(6),
+                fallbackWeather,
+                "https://f-api.github.io"
+        );
+        server = customizer.getServer();
+        return client;
+    }
+
+    private String todayWeatherJson() {
+        String today = LocalDate.now().format(DateTimeFormatter.ofPattern("MM-dd"));
+        return "[{\"date\":\"" + today + "\",\"weather\":\"Sunny\"}]";
+    }
+
+    @Test
+    void Given_CachedWeather_When_GetTodayWeatherTwice_Then_FetchesOnce() {
+        // given
+        server.expect(once(), requestTo(WEATHER_URL))
+                .andRespond(withSuccess(todayWeatherJson(), MediaType.APPLICATION_JSON));
+
+        // when
+        String first = weatherClient.getTodayWeather();
+        String second = weatherClient.getTodayWeather();
+
+        // then
+        assertEquals("Sunny", first);
+        assertEquals("Sunny", second);
+        server.verify();
+    }
+
+    @Test
+    void Given_ConcurrentCallers_When_GetTodayWeather_Then_ShareOneFetch() throws Exception {
+        // given
+        server.expect(once(), requestTo(WEATHER_URL))
+                .andRespond(withSuccess(todayWeatherJson(), MediaType.APPLICATION_JSON));
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Callable<String>> callers = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            callers.add(weatherClient::getTodayWeather);
+        }
+
+        // when
+        List<Future<String>> results = executor.invokeAll(callers);
+        executor.shutdown();
+
+        // then
+        for (Future<String> result : results) {
+            assertEquals("Sunny", result.get());
+        }
+        server.verify();
+    }
+
+    @Test
+    void Given_UpstreamErrorWithoutCache_When_GetTodayWeather_Then_ThrowsException() {
+        // given
+        server.expect(once(), requestTo(WEATHER_URL))
+                .andRespond(withStatus(HttpStatus.INTERNAL_SERVER_ERROR));
+
+        // when & then
+        assertThrows(RuntimeException.class, () -> weatherClient.getTodayWeather());
+    }
+
+    @Test
+    void Given_RepeatedFailures_When_CircuitOpens_Then_ReturnsFallbackWithoutCallingUpstream() {
+        // given
+        weatherClient = createWeatherClient("Unknown");
+        server.expect(times(2), requestTo(WEATHER_URL))
+                .andRespond(withStatus(HttpStatus.INTERNAL_SERVER_ERROR));
+
+        // when
+        weatherClient.getTodayWeather();
+        weatherClient.getTodayWeather();
+        String weather = weatherClient.getTodayWeather();
+
+        // then
+        assertEquals("Unknown", weather);
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+        server.verify();
+    }
+}
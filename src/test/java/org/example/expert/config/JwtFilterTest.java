@@ -0,0 +1,108 @@
+package org.example.expert.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.expert.domain.auth.repository.TokenRevocationRepository;
+import org.example.expert.domain.auth.service.TokenRevocationRegistry;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+
+class JwtFilterTest {
+
+    private JwtUtil jwtUtil;
+    private TokenRevocationRegistry tokenRevocationRegistry;
+    private JwtFilter jwtFilter;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secretKey",
+                Base64.getEncoder().encodeToString("0123456789abcdef0123456789abcdef".getBytes()));
+        jwtUtil.init();
+        tokenRevocationRegistry = new TokenRevocationRegistry(mock(TokenRevocationRepository.class),
+                mock(EntityManagerFactory.class, RETURNS_DEEP_STUBS));
+        jwtFilter = new JwtFilter(jwtUtil, tokenRevocationRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void Given_ValidToken_When_DoFilter_Then_ParsesOnceAndSetsAuthUser() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/admin/users/1");
+        request.addHeader("Authorization", jwtUtil.createToken(1L, "admin@a.com", UserRole.ADMIN, 0));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        ServletRequestAttributes attributes = new ServletRequestAttributes(request);
+        RequestContextHolder.setRequestAttributes(attributes);
+
+        // when
+        jwtFilter.doFilter(request, response, new MockFilterChain());
+
+        // then
+        AuthUser authUser = (AuthUser) request.getAttribute(JwtFilter.AUTH_USER_ATTRIBUTE);
+        assertNotNull(authUser);
+        assertEquals(1L, authUser.getId());
+        assertEquals("admin@a.com", authUser.getEmail());
+        assertEquals(UserRole.ADMIN, authUser.getUserRole());
+        assertEquals(1, JwtUtil.getParseCount(attributes));
+    }
+
+    @Test
+    void Given_UserToken_When_AdminUri_Then_Forbidden() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/admin/users/1");
+        request.addHeader("Authorization", jwtUtil.createToken(2L, "user@a.com", UserRole.USER, 0));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        jwtFilter.doFilter(request, response, new MockFilterChain());
+
+        // then
+        assertEquals(403, response.getStatus());
+    }
+
+    @Test
+    void Given_TokenIssuedBeforeRevoke_When_DoFilter_Then_Unauthorized() throws Exception {
+        // given
+        User user = new User("user@a.com", "password", UserRole.USER);
+        ReflectionTestUtils.setField(user, "id", 3L);
+        String oldToken = jwtUtil.createToken(3L, "user@a.com", UserRole.USER, 0);
+        tokenRevocationRegistry.revoke(user);
+        String newToken = jwtUtil.createToken(3L, "user@a.com", UserRole.USER, tokenRevocationRegistry.currentVersion(user));
+
+        MockHttpServletRequest oldRequest = new MockHttpServletRequest("GET", "/todos");
+        oldRequest.addHeader("Authorization", oldToken);
+        MockHttpServletResponse oldResponse = new MockHttpServletResponse();
+        MockHttpServletRequest newRequest = new MockHttpServletRequest("GET", "/todos");
+        newRequest.addHeader("Authorization", newToken);
+        MockHttpServletResponse newResponse = new MockHttpServletResponse();
+
+        // when
+        jwtFilter.doFilter(oldRequest, oldResponse, new MockFilterChain());
+        jwtFilter.doFilter(newRequest, newResponse, new MockFilterChain());
+
+        // then
+        assertEquals(401, oldResponse.getStatus());
+        assertNull(oldRequest.getAttribute(JwtFilter.AUTH_USER_ATTRIBUTE));
+        assertEquals(200, newResponse.getStatus());
+        assertNotNull(newRequest.getAttribute(JwtFilter.AUTH_USER_ATTRIBUTE));
+    }
+}
@@ -0,0 +1,52 @@
+package org.example.expert.config;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.MalformedJwtException;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtUtilTest {
+
+    private JwtUtil jwtUtil;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secretKey",
+                Base64.getEncoder().encodeToString("0123456789abcdef0123456789abcdef".getBytes()));
+        jwtUtil.init();
+    }
+
+    @Test
+    void Given_SameToken_When_ExtractClaimsTwice_Then_SecondCallHitsCache() {
+        // given
+        String token = jwtUtil.substringToken(jwtUtil.createToken(1L, "a@a.com", UserRole.USER, 0));
+
+        // when
+        Claims first = jwtUtil.extractClaims(token);
+        Claims second = jwtUtil.extractClaims(token);
+
+        // then
+        assertEquals("1", second.getSubject());
+        assertSame(first, second);
+        assertEquals(1, jwtUtil.getClaimsCacheStats().missCount());
+        assertEquals(1, jwtUtil.getClaimsCacheStats().hitCount());
+    }
+
+    @Test
+    void Given_InvalidToken_When_ExtractClaims_Then_ThrowsAndDoesNotCache() {
+        // given
+        String token = "invalid.token.value";
+
+        // when & then
+        assertThrows(MalformedJwtException.class, () -> jwtUtil.extractClaims(token));
+        assertThrows(MalformedJwtException.class, () -> jwtUtil.extractClaims(token));
+        assertEquals(0, jwtUtil.getClaimsCacheStats().hitCount());
+    }
+}
@@ -1,17 +1,21 @@
 package org.example.expert.config;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
-import org.springframework.test.context.junit.jupiter.SpringExtension;
 
-import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
 
-@ExtendWith(SpringExtension.class)
 class PasswordEncoderTest {
 
-    @InjectMocks
-    private PasswordEncoder passwordEncoder;
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PasswordEncoder passwordEncoder = passwordEncoder(Runnable::run);
 
     @Test
     void matches_메서드가_정상적으로_동작한다() {
@@ -24,5 +28,60 @@ class PasswordEncoderTest {
 
         // then
         assertTrue(matches);
+        assertEquals(1, meterRegistry.get("password.hash.time").tag("operation", "matches").timer().count());
+        assertEquals(2, meterRegistry.get("password.hash.queue.wait").timer().count());
+    }
+
+    @Test
+    void 대기열이_가득_차면_ServiceUnavailableException_을_던진다() {
+        // given
+        PasswordEncoder saturatedEncoder = passwordEncoder(command -> {
+            throw new RejectedExecutionException("queue full");
+        });
+
+        // when & then
+        ServiceUnavailableException exception = assertThrows(ServiceUnavailableException.class, () ->
+                saturatedEncoder.matches("testPassword", "hash"));
+        assertEquals(2, exception.getRetryAfterSeconds());
+        assertEquals(1, meterRegistry.get("password.hash.rejected").counter().count());
+    }
+
+    @Test
+    void encodeAll_은_대기열이_잠시_가득_차면_자리가_날_때까지_기다린다() {
+        // given
+        AtomicInteger rejections = new AtomicInteger();
+        PasswordEncoder busyEncoder = passwordEncoder(command -> {
+            if (rejections.incrementAndGet() <= 3) {
+                throw new RejectedExecutionException("queue full");
+            }
+            command.run();
+        });
+
+        // when
+        List<String> encodedPasswords = busyEncoder.encodeAll(List.of("password1", "password2"));
+
+        // then
+        assertEquals(2, encodedPasswords.size());
+        assertTrue(passwordEncoder.matches("password1", encodedPasswords.get(0)));
+        assertTrue(passwordEncoder.matches("password2", encodedPasswords.get(1)));
+        assertEquals(0, meterRegistry.get("password.hash.rejected").counter().count());
+    }
+
+    @Test
+    void encodeAll_은_timeout_동안_대기열이_가득_차_있으면_503_을_던진다() {
+        // given
+        PasswordEncoder saturatedEncoder = new PasswordEncoder(command -> {
+            throw new RejectedExecutionException("queue full");
+        }, meterRegistry, Duration.ofMillis(50), Duration.ofSeconds(2));
+
+        // when & then
+        ServiceUnavailableException exception = assertThrows(ServiceUnavailableException.class,
+                () -> saturatedEncoder.encodeAll(List.of("password1", "password2")));
+        assertEquals(2, exception.getRetryAfterSeconds());
+        assertEquals(1, meterRegistry.get("password.hash.rejected").counter().count());
+    }
+
+    private PasswordEncoder passwordEncoder(Executor executor) {
+        return new PasswordEncoder(executor, meterRegistry, Duration.ofSeconds(5), Duration.ofSeconds(2));
     }
 }
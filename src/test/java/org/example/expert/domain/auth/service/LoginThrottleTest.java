@@ -0,0 +1,66 @@
+package org.example.expert.domain.auth.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.common.exception.TooManyRequestsException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoginThrottleTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final LoginThrottle loginThrottle = new LoginThrottle(
+            new SimpleMeterRegistry(),
+            new LoginThrottle.Limit(3, Duration.ofSeconds(10)),
+            new LoginThrottle.Limit(5, Duration.ofSeconds(1)),
+            1000,
+            nanos::get
+    );
+
+    @Test
+    void Given_BurstUsed_When_Acquire_Then_ThrowsTooManyRequestsWithRetryAfter() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            loginThrottle.acquire("a@a.com", "10.0.0." + i);
+        }
+
+        // when & then
+        TooManyRequestsException exception = assertThrows(TooManyRequestsException.class, () ->
+                loginThrottle.acquire("A@A.com", "10.0.0.9"));
+        assertEquals(10, exception.getRetryAfterSeconds());
+    }
+
+    @Test
+    void Given_RefillIntervalPassed_When_Acquire_Then_Allowed() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            loginThrottle.acquire("a@a.com", "10.0.0." + i);
+        }
+
+        // when
+        nanos.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        // then
+        assertDoesNotThrow(() -> loginThrottle.acquire("a@a.com", "10.0.0.9"));
+        assertThrows(TooManyRequestsException.class, () -> loginThrottle.acquire("a@a.com", "10.0.0.9"));
+    }
+
+    @Test
+    void Given_ThrottledAddress_When_Acquire_Then_DoesNotConsumeEmailTokens() {
+        // given
+        for (int i = 0; i < 5; i++) {
+            loginThrottle.acquire("user" + i + "@a.com", "10.0.0.1");
+        }
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            assertThrows(TooManyRequestsException.class, () -> loginThrottle.acquire("victim@a.com", "10.0.0.1"));
+        }
+
+        // then
+        assertDoesNotThrow(() -> loginThrottle.acquire("victim@a.com", "10.0.0.2"));
+    }
+}
@@ -0,0 +1,96 @@
+package org.example.expert.domain.auth.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.expert.domain.auth.entity.TokenRevocation;
+import org.example.expert.domain.auth.repository.TokenRevocationRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class TokenRevocationRegistryTest {
+
+    private final TokenRevocationRepository tokenRevocationRepository = mock(TokenRevocationRepository.class);
+    private final EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class, RETURNS_DEEP_STUBS);
+    private final TokenRevocationRegistry tokenRevocationRegistry =
+            new TokenRevocationRegistry(tokenRevocationRepository, entityManagerFactory);
+
+    @Test
+    void Given_Revoke_When_IsRevoked_Then_OnlyOlderVersionsAreRevoked() {
+        // given
+        User user = user(1L);
+
+        // when
+        tokenRevocationRegistry.revoke(user);
+        tokenRevocationRegistry.revoke(user);
+
+        // then
+        assertEquals(2, user.getTokenVersion());
+        assertTrue(tokenRevocationRegistry.isRevoked(1L, 0));
+        assertTrue(tokenRevocationRegistry.isRevoked(1L, 1));
+        assertFalse(tokenRevocationRegistry.isRevoked(1L, 2));
+        assertFalse(tokenRevocationRegistry.isRevoked(2L, 0));
+        verify(tokenRevocationRepository, times(2)).save(any(TokenRevocation.class));
+    }
+
+    @Test
+    void Given_RevocationFromOtherNode_When_Poll_Then_AppliedAndStaleUserVersionIsRaised() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        given(tokenRevocationRepository.findByRevokedAtAfter(any())).willReturn(List.of(
+                new TokenRevocation(5L, 3, now),
+                new TokenRevocation(6L, 1, now.minusHours(2))));
+        User staleUser = user(5L);
+
+        // when
+        tokenRevocationRegistry.poll();
+
+        // then
+        assertTrue(tokenRevocationRegistry.isRevoked(5L, 2));
+        assertFalse(tokenRevocationRegistry.isRevoked(5L, 3));
+        // 토큰 유효 시간보다 오래된 무효화는 들고 있지 않음
+        assertFalse(tokenRevocationRegistry.isRevoked(6L, 0));
+        // 2차 캐시에서 읽은 오래된 User 라도 폴링한 버전으로 발급
+        assertEquals(3, tokenRevocationRegistry.currentVersion(staleUser));
+        // 이 노드의 2차 캐시에 남은 이전 권한/비밀번호도 제거
+        verify(entityManagerFactory.getCache()).evict(User.class, 5L);
+    }
+
+    @Test
+    void Given_ManyRevocations_When_IsRevoked_Then_EveryUserIsFound() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        List<TokenRevocation> rows = new ArrayList<>();
+        for (long userId = 1; userId <= 1000; userId++) {
+            rows.add(new TokenRevocation(userId * 64, 1, now));
+        }
+        given(tokenRevocationRepository.findByRevokedAtAfter(any())).willReturn(rows);
+
+        // when
+        tokenRevocationRegistry.poll();
+
+        // then
+        for (long userId = 1; userId <= 1000; userId++) {
+            assertTrue(tokenRevocationRegistry.isRevoked(userId * 64, 0));
+            assertFalse(tokenRevocationRegistry.isRevoked(userId * 64 + 1, 0));
+        }
+    }
+
+    private User user(long id) {
+        User user = new User("user" + id + "@a.com", "password", UserRole.USER);
+        ReflectionTestUtils.setField(user, "id", id);
+        return user;
+    }
+}
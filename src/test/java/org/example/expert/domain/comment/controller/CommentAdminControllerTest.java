@@ -1,7 +1,10 @@
 package org.example.expert.domain.comment.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.config.JwtFilter;
 import org.example.expert.config.JwtUtil;
+import org.example.expert.domain.comment.dto.request.CommentBulkDeleteRequest;
+import org.example.expert.domain.comment.dto.response.CommentBulkDeleteResponse;
 import org.example.expert.domain.comment.service.CommentAdminService;
 import org.example.expert.domain.comment.service.CommentService;
 import org.example.expert.domain.common.dto.AuthUser;
@@ -10,11 +13,16 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willDoNothing;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(controllers = CommentAdminController.class)
@@ -34,7 +42,7 @@ class CommentAdminControllerTest {
     public void Given_CommentId_When_DeleteComment_Then_ReturnOk() throws Exception {
         // given
         long commentId = 10L;
-        AuthUser authUser = new AuthUser(1L, "test@test.com", UserRole.USER);
+        AuthUser authUser = new AuthUser(1L, "test@test.com", UserRole.ADMIN);
 
 
         willDoNothing().given(commentAdminService).deleteComment(commentId);
@@ -42,9 +50,25 @@ class CommentAdminControllerTest {
         // when & then
         mockMvc.perform(delete("/admin/comments/{commentId}", commentId)
                         .header("Authorization", "Bearer mockToken")
-                        .requestAttr("userId", authUser.getId())
-                        .requestAttr("email", authUser.getEmail())
-                        .requestAttr("userRole",authUser.getUserRole().name()))
+                        .requestAttr(JwtFilter.AUTH_USER_ATTRIBUTE, authUser))
                 .andExpect(status().isOk());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void Given_CommentIds_When_DeleteComments_Then_ReturnDeletedCount() throws Exception {
+        // given
+        AuthUser authUser = new AuthUser(1L, "test@test.com", UserRole.ADMIN);
+        CommentBulkDeleteRequest request = new CommentBulkDeleteRequest(List.of(1L, 2L, 3L));
+
+        given(commentAdminService.deleteComments(List.of(1L, 2L, 3L))).willReturn(new CommentBulkDeleteResponse(3));
+
+        // when & then
+        mockMvc.perform(delete("/admin/comments")
+                        .header("Authorization", "Bearer mockToken")
+                        .requestAttr(JwtFilter.AUTH_USER_ATTRIBUTE, authUser)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deletedCount").value(3));
+    }
+}
@@ -2,6 +2,7 @@ package org.example.expert.domain.comment.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.example.expert.config.AuthUserArgumentResolver;
+import org.example.expert.config.JwtFilter;
 import org.example.expert.config.JwtUtil;
 import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
 import org.example.expert.domain.comment.dto.response.CommentResponse;
@@ -68,9 +69,7 @@ class CommentControllerTest {
         mockMvc.perform(post("/todos/" + todoId + "/comments")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(json)
-                .requestAttr("userId", authUser.getId())
-                .requestAttr("email", authUser.getEmail())
-                .requestAttr("userRole",authUser.getUserRole().name()))
+                .requestAttr(JwtFilter.AUTH_USER_ATTRIBUTE, authUser))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.id").value(commentSaveResponse.getId()))
                 .andExpect(jsonPath("$.contents").value(commentSaveResponse.getContents()))
@@ -1,5 +1,6 @@
 package org.example.expert.domain.comment.service;
 
+import org.example.expert.domain.comment.dto.response.CommentBulkDeleteResponse;
 import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.junit.jupiter.api.Test;
@@ -8,8 +9,18 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
 
 @ExtendWith({MockitoExtension.class})
 class CommentAdminServiceTest {
@@ -18,6 +29,10 @@ class CommentAdminServiceTest {
     private CommentRepository commentRepository;
     @Mock
     private TodoRepository todoRepository;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    @Mock
+    private CommentListCache commentListCache;
     @InjectMocks
     private CommentAdminService commentAdminService;
 
@@ -33,4 +48,76 @@ class CommentAdminServiceTest {
         Mockito.verify(commentRepository, Mockito.times(1)).deleteById(commentId);
     }
 
-}
\ No newline at end of file
+    @Test
+    public void Given_CommentOfTodo_When_DeleteComment_Then_EvictsCommentListOfTodo() {
+        // given
+        long commentId = 1L;
+        long todoId = 10L;
+        given(commentRepository.findTodoIdById(commentId)).willReturn(Optional.of(todoId));
+
+        // when
+        commentAdminService.deleteComment(commentId);
+
+        // then
+        Mockito.verify(commentListCache).evictAfterCommit(todoId);
+    }
+
+    @Test
+    public void Given_CommentIds_When_DeleteComments_Then_DeletesDistinctIdsInChunks() {
+        // given
+        ReflectionTestUtils.setField(commentAdminService, "chunkSize", 2);
+        givenTransactionTemplateRunsCallback();
+        given(commentRepository.deleteAllByIdIn(anyList())).willAnswer(invocation ->
+                ((List<?>) invocation.getArgument(0)).size());
+
+        // when
+        CommentBulkDeleteResponse response = commentAdminService.deleteComments(List.of(1L, 2L, 2L, 3L));
+
+        // then
+        assertEquals(3, response.getDeletedCount());
+        Mockito.verify(commentRepository).deleteAllByIdIn(List.of(1L, 2L));
+        Mockito.verify(commentRepository).deleteAllByIdIn(List.of(3L));
+    }
+
+    @Test
+    public void Given_TodoId_When_DeleteCommentsByTodo_Then_DeletesUntilNoCommentsLeft() {
+        // given
+        long todoId = 1L;
+        ReflectionTestUtils.setField(commentAdminService, "chunkSize", 2);
+        givenTransactionTemplateRunsCallback();
+        given(commentRepository.findIdsByTodoId(todoId, Limit.of(2)))
+                .willReturn(List.of(1L, 2L))
+                .willReturn(List.of(3L, 4L))
+                .willReturn(List.of());
+        given(commentRepository.deleteAllByIdIn(anyList())).willReturn(2);
+
+        // when
+        CommentBulkDeleteResponse response = commentAdminService.deleteCommentsByTodo(todoId);
+
+        // then
+        assertEquals(4, response.getDeletedCount());
+        Mockito.verify(commentRepository, Mockito.times(3)).findIdsByTodoId(todoId, Limit.of(2));
+        Mockito.verify(commentRepository, Mockito.times(2)).deleteAllByIdIn(anyList());
+    }
+
+    @Test
+    public void Given_UserId_When_DeleteCommentsByUser_Then_StopsAfterPartialChunk() {
+        // given
+        long userId = 1L;
+        givenTransactionTemplateRunsCallback();
+        given(commentRepository.findIdsByUserId(userId, Limit.of(1000))).willReturn(List.of(5L));
+        given(commentRepository.deleteAllByIdIn(List.of(5L))).willReturn(1);
+
+        // when
+        CommentBulkDeleteResponse response = commentAdminService.deleteCommentsByUser(userId);
+
+        // then
+        assertEquals(1, response.getDeletedCount());
+        Mockito.verify(commentRepository, Mockito.times(1)).findIdsByUserId(userId, Limit.of(1000));
+    }
+
+    private void givenTransactionTemplateRunsCallback() {
+        given(transactionTemplate.execute(any())).willAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+}
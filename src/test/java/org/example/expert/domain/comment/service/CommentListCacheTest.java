@@ -0,0 +1,98 @@
+package org.example.expert.domain.comment.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CommentListCacheTest {
+
+    private final CommentListCache commentListCache = new CommentListCache(new SimpleMeterRegistry(), 1024 * 1024, Duration.ofMinutes(10));
+
+    @Test
+    void Given_ConcurrentMisses_When_Get_Then_LoadsOnce() throws Exception {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        // when
+        List<Future<List<CommentResponse>>> futures = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            futures.add(executor.submit(() -> commentListCache.get(1L, todoId -> {
+                loads.incrementAndGet();
+                await(loading);
+                return List.of(new CommentResponse(1L, "contents", 1L, "a@a.com"));
+            })));
+        }
+        Thread.sleep(100);
+        loading.countDown();
+
+        // then
+        for (Future<List<CommentResponse>> future : futures) {
+            assertEquals(1, future.get(5, TimeUnit.SECONDS).size());
+        }
+        assertEquals(1, loads.get());
+        executor.shutdownNow();
+    }
+
+    @Test
+    void Given_CachedList_When_EvictAfterCommitWithoutTransaction_Then_ReloadsOnNextGet() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+        commentListCache.get(1L, todoId -> {
+            loads.incrementAndGet();
+            return List.of();
+        });
+
+        // when
+        commentListCache.evictAfterCommit(1L);
+        commentListCache.get(1L, todoId -> {
+            loads.incrementAndGet();
+            return List.of();
+        });
+
+        // then
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void Given_ChangeOnOtherNode_When_TimeToLivePasses_Then_ReloadsOnNextGet() throws Exception {
+        // given
+        CommentListCache shortLivedCache = new CommentListCache(new SimpleMeterRegistry(), 1024 * 1024, Duration.ofMillis(20));
+        AtomicInteger loads = new AtomicInteger();
+        shortLivedCache.get(1L, todoId -> {
+            loads.incrementAndGet();
+            return List.of();
+        });
+
+        // when
+        Thread.sleep(50);
+        shortLivedCache.get(1L, todoId -> {
+            loads.incrementAndGet();
+            return List.of();
+        });
+
+        // then
+        assertEquals(2, loads.get());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
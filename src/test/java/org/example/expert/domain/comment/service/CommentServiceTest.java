@@ -17,17 +17,18 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.List;
 import java.util.Arrays;
-import java.util.Optional;
+import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class CommentServiceTest {
@@ -36,6 +37,8 @@ class CommentServiceTest {
     private CommentRepository commentRepository;
     @Mock
     private TodoRepository todoRepository;
+    @Mock
+    private CommentListCache commentListCache;
     @InjectMocks
     private CommentService commentService;
 
@@ -46,7 +49,7 @@ class CommentServiceTest {
         CommentSaveRequest request = new CommentSaveRequest("contents");
         AuthUser authUser = new AuthUser(1L, "email", UserRole.USER);
 
-        given(todoRepository.findById(anyLong())).willReturn(Optional.empty());
+        given(todoRepository.existsById(anyLong())).willReturn(false);
 
         // when
         InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> {
@@ -69,7 +72,8 @@ class CommentServiceTest {
 
         Comment comment = new Comment(request.getContents(), user, todo);
 
-        given(todoRepository.findById(anyLong())).willReturn(Optional.of(todo));
+        given(todoRepository.existsById(anyLong())).willReturn(true);
+        given(todoRepository.getReferenceById(anyLong())).willReturn(todo);
         given(commentRepository.save(any())).willReturn(comment);
 
         // when
@@ -77,6 +81,7 @@ class CommentServiceTest {
 
         // then
         assertNotNull(result);
+        verify(commentListCache).evictAfterCommit(todoId);
     }
 
     @Test
@@ -85,17 +90,14 @@ class CommentServiceTest {
         long todoId = 1;
         AuthUser authUser = new AuthUser(1L, "test@example.com", UserRole.USER);
 
-        User user = User.fromAuthUser(authUser);
-        Todo todo = new Todo("title", "title", "contents", user);
-
         long commentId1 = 1L;
         long commentId2 = 2L;
-        Comment comment1 = new Comment("Test Comments1", user, todo);
-        Comment comment2 = new Comment("Test Comments2", user, null);
-        ReflectionTestUtils.setField(comment1, "id", commentId1);
-        ReflectionTestUtils.setField(comment2, "id", commentId2);
+        CommentResponse comment1 = new CommentResponse(commentId1, "Test Comments1", authUser.getId(), authUser.getEmail());
+        CommentResponse comment2 = new CommentResponse(commentId2, "Test Comments2", authUser.getId(), authUser.getEmail());
 
-        given(commentRepository.findByTodoIdWithUser(todoId))
+        given(commentListCache.get(eq(todoId), any())).willAnswer(invocation ->
+                invocation.<Function<Long, List<CommentResponse>>>getArgument(1).apply(todoId));
+        given(commentRepository.findResponsesByTodoId(todoId))
                 .willReturn(Arrays.asList(comment1, comment2));
 
         // when
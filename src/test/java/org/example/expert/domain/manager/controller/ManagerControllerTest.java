@@ -2,6 +2,7 @@ package org.example.expert.domain.manager.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.example.expert.config.AuthUserArgumentResolver;
+import org.example.expert.config.JwtFilter;
 import org.example.expert.config.JwtUtil;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
@@ -9,6 +10,7 @@ import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
 import org.example.expert.domain.manager.service.ManagerService;
 import org.example.expert.domain.user.dto.response.UserResponse;
+import org.example.expert.domain.user.enums.UserRole;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentMatchers;
@@ -21,14 +23,13 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
-import io.jsonwebtoken.Claims;
 
 
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.BDDMockito.given;
-import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -61,7 +62,7 @@ class ManagerControllerTest {
 
     @BeforeEach
     void setup() {
-        mockMvc = MockMvcBuilders.standaloneSetup(new ManagerController(managerService, jwtUtil))
+        mockMvc = MockMvcBuilders.standaloneSetup(new ManagerController(managerService))
                 .setCustomArgumentResolvers(authUserArgumentResolver)
                 .build();
     }
@@ -85,9 +86,7 @@ class ManagerControllerTest {
 
         // when & then
         mockMvc.perform(post("/todos/{todoId}/managers", todoId)
-                        .requestAttr("userId", 1L)
-                        .requestAttr("email", "test@a.com")
-                        .requestAttr("userRole", "ADMIN")
+                        .requestAttr(JwtFilter.AUTH_USER_ATTRIBUTE, new AuthUser(1L, "test@a.com", UserRole.ADMIN))
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isOk())
@@ -132,16 +131,14 @@ class ManagerControllerTest {
         long todoId = 1L;
         long managerId = 2L;
         long userId = 3L;
-        String token = "Bearer faketoken";
-        Claims mockClaims = mock(Claims.class);
-
-        given(jwtUtil.extractClaims("faketoken")).willReturn(mockClaims);
-        given(mockClaims.getSubject()).willReturn(String.valueOf(userId));
+        AuthUser authUser = new AuthUser(userId, "test@a.com", UserRole.USER);
 
         // when & then
         mockMvc.perform(delete("/todos/{todoId}/managers/{managerId}", todoId, managerId)
-                        .header("Authorization", token))
+                        .requestAttr(JwtFilter.AUTH_USER_ATTRIBUTE, authUser))
                 .andExpect(status().isOk());
+
+        verify(managerService).deleteManager(userId, todoId, managerId);
     }
 
 }
\ No newline at end of file
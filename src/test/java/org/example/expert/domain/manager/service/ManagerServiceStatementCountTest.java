@@ -0,0 +1,99 @@
+package org.example.expert.domain.manager.service;
+
+import org.example.expert.config.config.PersistenceConfig;
+import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
+import org.example.expert.domain.comment.service.CommentListCache;
+import org.example.expert.domain.comment.service.CommentService;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.support.StatementCountConfig;
+import org.example.expert.support.StatementCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 쓰기 경로가 엔티티를 읽지 않고 존재/소유자 확인 쿼리 하나로 끝나는지 SQL 수로 확인
+@DataJpaTest
+@Import({PersistenceConfig.class, StatementCountConfig.class, ManagerService.class, CommentService.class})
+class ManagerServiceStatementCountTest {
+
+    @Autowired
+    private ManagerService managerService;
+    @Autowired
+    private CommentService commentService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private ManagerRepository managerRepository;
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private StatementCounter statementCounter;
+    @MockBean
+    private CommentListCache commentListCache;
+
+    private User owner;
+    private Todo todo;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(new User("owner@a.com", "password", UserRole.USER));
+        todo = todoRepository.save(new Todo("title", "contents", "Sunny", owner));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void Given_Manager_When_DeleteManager_Then_OneSelectAndOneDelete() {
+        // given
+        User managerUser = userRepository.save(new User("manager@a.com", "password", UserRole.USER));
+        Manager manager = managerRepository.save(new Manager(managerUser, todoRepository.getReferenceById(todo.getId())));
+        entityManager.flush();
+        entityManager.clear();
+        statementCounter.reset();
+
+        // when
+        managerService.deleteManager(owner.getId(), todo.getId(), manager.getId());
+
+        // then
+        assertEquals(1, statementCounter.getSelects());
+        assertEquals(1, statementCounter.getDeletes());
+        assertEquals(2, statementCounter.getTotal());
+        assertFalse(managerRepository.existsById(manager.getId()));
+    }
+
+    @Test
+    void Given_Todo_When_SaveComment_Then_OneSelectAndOneInsert() {
+        // given
+        AuthUser authUser = new AuthUser(owner.getId(), owner.getEmail(), owner.getUserRole());
+        // pooled optimizer 는 처음 두 번 sequence 를 읽으므로 미리 받아 두어 측정에서 제외
+        commentService.saveComment(authUser, todo.getId(), new CommentSaveRequest("warm up"));
+        commentService.saveComment(authUser, todo.getId(), new CommentSaveRequest("warm up"));
+        entityManager.flush();
+        entityManager.clear();
+        statementCounter.reset();
+
+        // when
+        commentService.saveComment(authUser, todo.getId(), new CommentSaveRequest("contents"));
+        entityManager.flush();
+
+        // then
+        assertEquals(1, statementCounter.getSelects());
+        assertEquals(1, statementCounter.getInserts());
+        assertEquals(2, statementCounter.getTotal());
+    }
+}
@@ -2,10 +2,13 @@ package org.example.expert.domain.manager.service;
 
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.dto.request.ManagerBulkSaveRequest;
 import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
+import org.example.expert.domain.manager.dto.response.ManagerBulkSaveResponse;
 import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
 import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.enums.ManagerAssignStatus;
 import org.example.expert.domain.manager.repository.ManagerRepository;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
@@ -24,9 +27,12 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.never;
 
 @ExtendWith(MockitoExtension.class)
 class ManagerServiceTest {
@@ -168,11 +174,66 @@ class ManagerServiceTest {
         assertEquals("b@b.com",response.getUser().getEmail());
     }
 
+    @Test
+    void Given_MixedUserIds_When_SaveManagers_Then_ReturnsResultPerItem() {
+        // given
+        long todoId = 1L;
+        AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+        User user = User.fromAuthUser(authUser);
+        Todo todo = new Todo("Test Title", "Test Contents", "Sunny", user);
+        ReflectionTestUtils.setField(todo, "id", todoId);
+
+        User newManagerUser = new User("b@b.com", "password", UserRole.USER);
+        ReflectionTestUtils.setField(newManagerUser, "id", 2L);
+        User assignedUser = new User("c@c.com", "password", UserRole.USER);
+        ReflectionTestUtils.setField(assignedUser, "id", 3L);
+
+        // 신규, 중복, 본인, 이미 배치됨, 없는 유저
+        ManagerBulkSaveRequest request = new ManagerBulkSaveRequest(List.of(2L, 2L, 1L, 3L, 999L));
+
+        given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
+        given(userRepository.findAllById(anyCollection())).willReturn(List.of(newManagerUser, assignedUser));
+        given(managerRepository.findUserIdsByTodoIdAndUserIdIn(any(), anyCollection())).willReturn(List.of(3L));
+
+        // when
+        ManagerBulkSaveResponse response = managerService.saveManagers(authUser, todoId, request);
+
+        // then
+        assertEquals(1, response.getAssigned());
+        assertEquals(List.of(
+                ManagerAssignStatus.ASSIGNED,
+                ManagerAssignStatus.DUPLICATE,
+                ManagerAssignStatus.SELF_ASSIGN,
+                ManagerAssignStatus.ALREADY_ASSIGNED,
+                ManagerAssignStatus.USER_NOT_FOUND
+        ), response.getResults().stream().map(r -> r.getStatus()).toList());
+        assertEquals(999L, response.getResults().get(4).getManagerUserId());
+        verify(userRepository, times(1)).findAllById(anyCollection());
+        verify(managerRepository, times(1)).saveAll(any());
+    }
+
+    @Test
+    void Given_UserIsNotOwner_When_SaveManagers_Then_ThrowsInvalidRequestException() {
+        // given
+        long todoId = 1L;
+        AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+        User owner = User.fromAuthUser(new AuthUser(2L, "b@b.com", UserRole.USER));
+        Todo todo = new Todo("Test Title", "Test Contents", "Sunny", owner);
+        ReflectionTestUtils.setField(todo, "id", todoId);
+
+        given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
+
+        // when & then
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
+                managerService.saveManagers(authUser, todoId, new ManagerBulkSaveRequest(List.of(3L))));
+        assertEquals("Not the Owner of Todo", exception.getMessage());
+    }
+
     @Test
     public void Given_TodoDoesNotExist_When_GetManagers_Then_ThrowsInvalidRequestException() {
         // given
         long todoId = 1L;
-        given(todoRepository.findById(todoId)).willReturn(Optional.empty());
+        given(todoRepository.existsById(todoId)).willReturn(false);
 
         // when & then
         InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
@@ -185,20 +246,11 @@ class ManagerServiceTest {
         // given
         long todoId = 1L;
 
-        User owner = new User("owner@a.com","password", UserRole.USER);
-        ReflectionTestUtils.setField(owner, "id", 1L);
-        Todo todo = new Todo("Test Title", "Test Content", "Sunny", owner);
-        ReflectionTestUtils.setField(todo, "id", todoId);
-
-        User managerUser = new User("manager@a.com", "password", UserRole.USER);
-        ReflectionTestUtils.setField(managerUser, "id", 2L);
-
-        Manager manager = new Manager(managerUser, todo);
-        ReflectionTestUtils.setField(manager, "id", 999L);
+        ManagerResponse manager = new ManagerResponse(999L, 2L, "manager@a.com");
 
-        given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
+        given(todoRepository.existsById(todoId)).willReturn(true);
 
-        given(managerRepository.findByTodoIdWithUser(todoId)).willReturn(List.of(manager));
+        given(managerRepository.findResponsesByTodoId(todoId)).willReturn(List.of(manager));
 
         // when
         List<ManagerResponse> responseList = managerService.getManagers(todoId);
@@ -212,29 +264,13 @@ class ManagerServiceTest {
 
     }
 
-    @Test
-    public void Given_UserDoesNotExist_When_DeleteManager_Then_ThrowsInvalidRequestException() {
-        // given
-        long userId = 1L;
-
-        given(userRepository.findById(userId)).willReturn(Optional.empty());
-
-        // when & then
-        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
-                managerService.deleteManager(userId, 1L, 1L));
-        assertEquals("User not found", exception.getMessage());
-    }
-
     @Test
     public void Given_TodoDoesNotExist_When_DeleteManager_Then_ThrowsInvalidRequest(){
         // given
         long userId = 1L;
-        User user = new User("a@a.com","password", UserRole.USER);
-
         long todoId = 1L;
 
-        given(userRepository.findById(userId)).willReturn(Optional.of(user));
-        given(todoRepository.findById(todoId)).willReturn(Optional.empty());
+        given(todoRepository.findOwnerIdById(todoId)).willReturn(Optional.empty());
 
         // when & then
         InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
@@ -246,42 +282,28 @@ class ManagerServiceTest {
     public void Given_UserIsNotOwner_When_DeleteManager_Then_ThrowsInvalidRequestException() {
         // given
         long userId = 1L;
-        User user = new User("a@a.com","password", UserRole.USER);
-        ReflectionTestUtils.setField(user, "id", userId);
-
         long ownerId = 2L;
-        User owner = new User("owner@a.com","password", UserRole.USER);
-        ReflectionTestUtils.setField(owner, "id", ownerId);
-
         long todoId = 1L;
-        Todo todo = new Todo("Test Title", "Test contents", "Sunny", owner);
-        ReflectionTestUtils.setField(todo, "id", todoId);
 
-        given(userRepository.findById(userId)).willReturn(Optional.of(user));
-        given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
+        given(todoRepository.findOwnerIdById(todoId)).willReturn(Optional.of(ownerId));
 
         // when & then
         InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
                 managerService.deleteManager(userId, todoId, 1L));
         assertEquals("Not the Owner of Todo", exception.getMessage());
+        verify(managerRepository, never()).deleteByIdAndTodoId(anyLong(), anyLong());
     }
 
     @Test
     public void Given_ManagerDoesNotExist_When_DeleteManager_Then_ThrowsInvalidRequestException() {
         // given
         long userId = 1L;
-        User user = new User("a@a.com", "password", UserRole.USER);
-        ReflectionTestUtils.setField(user, "id", userId);
-
         long todoId = 1L;
-        Todo todo = new Todo("Test Title", "Test contents", "Sunny", user);
-        ReflectionTestUtils.setField(todo, "id", todoId);
-
-        long  managerId = 2L;
+        long managerId = 2L;
 
-        given(userRepository.findById(userId)).willReturn(Optional.of(user));
-        given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
-        given(managerRepository.findById(managerId)).willReturn(Optional.empty());
+        given(todoRepository.findOwnerIdById(todoId)).willReturn(Optional.of(userId));
+        given(managerRepository.deleteByIdAndTodoId(managerId, todoId)).willReturn(0);
+        given(managerRepository.existsById(managerId)).willReturn(false);
 
         // when & then
         InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
@@ -293,38 +315,12 @@ class ManagerServiceTest {
     public void Given_ManagerIsNotOwner_When_DeleteManager_Then_ThrowsInvalidRequestException() {
         // given
         long userId = 1L;
-        User user = new User("a@a.com", "password", UserRole.USER);
-        ReflectionTestUtils.setField(user, "id", userId);
-
         long todoId = 1L;
-        Todo todo = new Todo("Test Title", "Test contents", "Sunny", user);
-        ReflectionTestUtils.setField(todo, "id", todoId);
-
-        long invalidTodoId = 2L;
-        Todo invalidTodo = new Todo("Test Title", "Test contents", "Sunny", user);
-        ReflectionTestUtils.setField(invalidTodo,"id",invalidTodoId);
-
-        long invalidManagerUserId = 2L;
-        User invalidManagerUser = new User("invalidManager@a.com","password", UserRole.USER);
-        ReflectionTestUtils.setField(invalidManagerUser, "id", invalidManagerUserId);
-
-        long managerUserId = 3L;
-        User managerUser = new User("manager@a.com","password", UserRole.USER);
-        ReflectionTestUtils.setField(managerUser, "id", managerUserId);
-
-        long  managerId = 999L;
-        Manager manager = new Manager(managerUser,todo);
-        ReflectionTestUtils.setField(manager, "id", managerId);
-
-        long invalidManagerId = 1000L;
-        Manager invalidManager = new Manager(invalidManagerUser, invalidTodo);
-        ReflectionTestUtils.setField(invalidManager, "id", invalidManagerId);
+        long invalidManagerId = 1000L; // 다른 일정의 담당자
 
-
-
-        given(userRepository.findById(userId)).willReturn(Optional.of(user));
-        given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
-        given(managerRepository.findById(invalidManagerId)).willReturn(Optional.of(invalidManager));
+        given(todoRepository.findOwnerIdById(todoId)).willReturn(Optional.of(userId));
+        given(managerRepository.deleteByIdAndTodoId(invalidManagerId, todoId)).willReturn(0);
+        given(managerRepository.existsById(invalidManagerId)).willReturn(true);
 
         // when & then
         InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
@@ -338,29 +334,17 @@ class ManagerServiceTest {
     public void Given_ValidRequest_When_DeleteManager_Then_DeleteManager() {
         // given
         long userId = 1L;
-        User user = new User("a@a.com", "password", UserRole.USER);
-        ReflectionTestUtils.setField(user, "id", userId);
-
         long todoId = 1L;
-        Todo todo = new Todo("Test Title", "Test contents", "Sunny", user);
-        ReflectionTestUtils.setField(todo, "id", todoId);
+        long managerId = 999L;
 
-        long managerUserId = 3L;
-        User managerUser = new User("manager@a.com","password", UserRole.USER);
-        ReflectionTestUtils.setField(managerUser, "id", managerUserId);
-
-        long  managerId = 999L;
-        Manager manager = new Manager(managerUser,todo);
-        ReflectionTestUtils.setField(manager, "id", managerId);
-
-        given(userRepository.findById(userId)).willReturn(Optional.of(user));
-        given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
-        given(managerRepository.findById(managerId)).willReturn(Optional.of(manager));
+        given(todoRepository.findOwnerIdById(todoId)).willReturn(Optional.of(userId));
+        given(managerRepository.deleteByIdAndTodoId(managerId, todoId)).willReturn(1);
 
         // when
         assertDoesNotThrow(() -> managerService.deleteManager(userId, todoId, managerId));
 
         // Then
-        verify(managerRepository, times(1)).delete(manager);
+        verify(managerRepository, times(1)).deleteByIdAndTodoId(managerId, todoId);
+        verify(managerRepository, never()).existsById(anyLong());
     }
 }
@@ -0,0 +1,57 @@
+package org.example.expert.domain.todo.repository;
+
+import org.example.expert.config.config.PersistenceConfig;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.support.StatementCountConfig;
+import org.example.expert.support.StatementCounter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import({PersistenceConfig.class, StatementCountConfig.class})
+class TodoBatchInsertTest {
+
+    private static final int TODO_COUNT = 200;
+    private static final int BATCH_SIZE = 50;
+
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private StatementCounter statementCounter;
+
+    @Test
+    void Given_ManyTodos_When_SaveAll_Then_InsertsAreBatched() {
+        // given
+        User user = userRepository.save(new User("a@a.com", "password", UserRole.USER));
+        entityManager.flush();
+
+        List<Todo> todos = new ArrayList<>();
+        for (int i = 0; i < TODO_COUNT; i++) {
+            todos.add(new Todo("title" + i, "contents", "Sunny", user));
+        }
+        statementCounter.reset();
+
+        // when
+        todoRepository.saveAll(todos);
+        entityManager.flush();
+
+        // then
+        // todo 200건 + cascade 된 manager 200건 = 400 insert -> 50건씩 8번의 batch
+        assertEquals(2 * TODO_COUNT / BATCH_SIZE, statementCounter.getInserts());
+    }
+}
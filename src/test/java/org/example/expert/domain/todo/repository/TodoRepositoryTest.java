@@ -0,0 +1,96 @@
+package org.example.expert.domain.todo.repository;
+
+import org.example.expert.config.config.PersistenceConfig;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import(PersistenceConfig.class)
+class TodoRepositoryTest {
+
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void Given_Todos_When_FindByCursor_Then_ReturnsEveryTodoOnceInOrder() {
+        // given
+        User user = userRepository.save(new User("a@a.com", "password", UserRole.USER));
+        for (int i = 0; i < 7; i++) {
+            todoRepository.save(new Todo("title" + i, "contents", "Sunny", user));
+        }
+        // 커서는 DB 에 저장된 값으로 만들어지므로 영속성 컨텍스트를 비움
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<Todo> visited = new ArrayList<>();
+        List<Todo> page = todoRepository.findFirstPageWithUser(Limit.of(3));
+        while (!page.isEmpty()) {
+            visited.addAll(page);
+            Todo last = page.get(page.size() - 1);
+            page = todoRepository.findNextPageWithUser(last.getModifiedAt(), last.getId(), Limit.of(3));
+        }
+
+        // then
+        assertEquals(7, visited.size());
+        Set<Long> ids = new HashSet<>();
+        for (int i = 0; i < visited.size(); i++) {
+            assertTrue(ids.add(visited.get(i).getId()));
+            if (i > 0) {
+                Todo previous = visited.get(i - 1);
+                Todo current = visited.get(i);
+                assertTrue(previous.getModifiedAt().isAfter(current.getModifiedAt())
+                        || (previous.getModifiedAt().isEqual(current.getModifiedAt()) && previous.getId() > current.getId()));
+            }
+        }
+    }
+
+    @Test
+    void Given_PendingTodosOnSeveralDays_When_FindWeatherPendingDates_Then_ReturnsEachDayOnce() {
+        // given
+        User user = userRepository.save(new User("b@b.com", "password", UserRole.USER));
+        Todo first = todoRepository.save(new Todo("title", "contents", null, user));
+        Todo second = todoRepository.save(new Todo("title", "contents", null, user));
+        Todo third = todoRepository.save(new Todo("title", "contents", null, user));
+        todoRepository.save(new Todo("title", "contents", "Sunny", user));
+        entityManager.flush();
+        setCreatedAt(first, LocalDateTime.of(2024, 2, 29, 9, 0));
+        setCreatedAt(second, LocalDateTime.of(2024, 2, 29, 18, 0));
+        setCreatedAt(third, LocalDateTime.of(2024, 3, 1, 9, 0));
+
+        // when
+        List<LocalDate> dates = todoRepository.findWeatherPendingDates();
+
+        // then
+        assertEquals(List.of(LocalDate.of(2024, 2, 29), LocalDate.of(2024, 3, 1)), dates);
+    }
+
+    private void setCreatedAt(Todo todo, LocalDateTime createdAt) {
+        entityManager.getEntityManager()
+                .createNativeQuery("UPDATE todos SET created_at = ? WHERE id = ?")
+                .setParameter(1, createdAt)
+                .setParameter(2, todo.getId())
+                .executeUpdate();
+    }
+}
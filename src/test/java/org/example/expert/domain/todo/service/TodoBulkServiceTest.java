@@ -0,0 +1,121 @@
+package org.example.expert.domain.todo.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.config.config.PersistenceConfig;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoBulkSaveResponse;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.support.StatementCountConfig;
+import org.example.expert.support.StatementCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@DataJpaTest
+@Import({PersistenceConfig.class, StatementCountConfig.class})
+class TodoBulkServiceTest {
+
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private StatementCounter statementCounter;
+
+    private final WeatherClient weatherClient = mock(WeatherClient.class);
+    private final TodoCountProvider todoCountProvider = mock(TodoCountProvider.class);
+    private TodoBulkService todoBulkService;
+    private AuthUser authUser;
+
+    @BeforeEach
+    void setUp() {
+        todoBulkService = new TodoBulkService(todoRepository, weatherClient, todoCountProvider,
+                new TransactionTemplate(transactionManager), entityManager,
+                Validation.buildDefaultValidatorFactory().getValidator());
+        ReflectionTestUtils.setField(todoBulkService, "chunkSize", 50);
+
+        User user = userRepository.save(new User("a@a.com", "password", UserRole.USER));
+        entityManager.flush();
+        authUser = new AuthUser(user.getId(), user.getEmail(), user.getUserRole());
+    }
+
+    @Test
+    void Given_ManyTodos_When_SaveTodos_Then_WeatherOnceAndInsertsBatchedPerChunk() {
+        // given
+        List<TodoSaveRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            requests.add(new TodoSaveRequest("title" + i, "contents"));
+        }
+        given(weatherClient.getTodayWeather()).willReturn("Sunny");
+        statementCounter.reset();
+
+        // when
+        TodoBulkSaveResponse response = todoBulkService.saveTodos(authUser, requests);
+
+        // then
+        assertEquals(100, response.getSaved());
+        assertEquals("Sunny", response.getWeather());
+        assertTrue(response.getResults().stream().allMatch(r -> r.isSuccess() && r.getId() != null));
+        verify(weatherClient, times(1)).getTodayWeather();
+        verify(todoCountProvider, times(2)).addAfterCommit(50);
+        // chunk 2개 x (todo 50건 batch + manager 50건 batch)
+        assertEquals(4, statementCounter.getInserts());
+        assertEquals(100, todoRepository.count());
+    }
+
+    @Test
+    void Given_InvalidItem_When_SaveTodos_Then_ReportsFailureAndSavesRest() {
+        // given
+        List<TodoSaveRequest> requests = List.of(
+                new TodoSaveRequest("title", "contents"),
+                new TodoSaveRequest("", "contents"),
+                new TodoSaveRequest("title", "contents")
+        );
+        given(weatherClient.getTodayWeather()).willReturn("Sunny");
+
+        // when
+        TodoBulkSaveResponse response = todoBulkService.saveTodos(authUser, requests);
+
+        // then
+        assertEquals(3, response.getRequested());
+        assertEquals(2, response.getSaved());
+        assertFalse(response.getResults().get(1).isSuccess());
+        assertTrue(response.getResults().get(1).getMessage().startsWith("title"));
+        assertTrue(response.getResults().get(2).isSuccess());
+    }
+
+    @Test
+    void Given_TooManyItems_When_SaveTodos_Then_ThrowsInvalidRequestException() {
+        // given
+        ReflectionTestUtils.setField(todoBulkService, "maxItems", 2);
+        List<TodoSaveRequest> requests = List.of(
+                new TodoSaveRequest("a", "b"), new TodoSaveRequest("a", "b"), new TodoSaveRequest("a", "b"));
+
+        // when & then
+        assertThrows(InvalidRequestException.class, () -> todoBulkService.saveTodos(authUser, requests));
+        verifyNoInteractions(weatherClient);
+    }
+}
@@ -0,0 +1,150 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.config.config.PersistenceConfig;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.comment.service.CommentListCache;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.response.TodoDeleteResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.enums.TodoDeleteStatus;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.support.StatementCountConfig;
+import org.example.expert.support.StatementCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+@DataJpaTest
+@Import({PersistenceConfig.class, StatementCountConfig.class})
+class TodoDeleteServiceTest {
+
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private ManagerRepository managerRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private StatementCounter statementCounter;
+
+    private final TodoCountProvider todoCountProvider = mock(TodoCountProvider.class);
+    private final List<Runnable> backgroundTasks = new ArrayList<>();
+    private TodoDeleteService todoDeleteService;
+    private User owner;
+    private Todo todo;
+
+    @BeforeEach
+    void setUp() {
+        todoDeleteService = new TodoDeleteService(todoRepository, commentRepository, managerRepository,
+                todoCountProvider, mock(CommentListCache.class), new TransactionTemplate(transactionManager), backgroundTasks::add);
+        ReflectionTestUtils.setField(todoDeleteService, "chunkSize", 2);
+
+        owner = userRepository.save(new User("owner@a.com", "password", UserRole.USER));
+        todo = todoRepository.save(new Todo("title", "contents", "Sunny", owner));
+        for (int i = 0; i < 5; i++) {
+            commentRepository.save(new Comment("comment" + i, owner, todo));
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void Given_SmallThread_When_DeleteTodo_Then_DeletesCommentsInChunksWithoutLoadingThem() {
+        // given
+        statementCounter.reset();
+
+        // when
+        TodoDeleteResponse response = todoDeleteService.deleteTodo(owner.getId(), todo.getId());
+
+        // then
+        assertEquals(TodoDeleteStatus.DELETED, response.getStatus());
+        // 댓글 5개 -> 2, 2, 1 세 번 + 담당자 1번 + 일정 1번
+        assertEquals(5, statementCounter.getDeletes());
+        assertEquals(0, commentRepository.count());
+        assertEquals(0, managerRepository.count());
+        assertTrue(todoRepository.findDeletedIds(10).isEmpty());
+        verify(todoCountProvider).addAfterCommit(-1);
+    }
+
+    @Test
+    void Given_HugeThread_When_DeleteTodo_Then_HidesTodoAndPurgesInBackground() {
+        // given
+        ReflectionTestUtils.setField(todoDeleteService, "backgroundThreshold", 3);
+
+        // when
+        TodoDeleteResponse response = todoDeleteService.deleteTodo(owner.getId(), todo.getId());
+
+        // then
+        assertEquals(TodoDeleteStatus.PURGING, response.getStatus());
+        assertFalse(todoRepository.existsById(todo.getId()));
+        assertEquals(5, commentRepository.count());
+
+        backgroundTasks.forEach(Runnable::run);
+        assertEquals(0, commentRepository.count());
+        assertTrue(todoRepository.findDeletedIds(10).isEmpty());
+    }
+
+    @Test
+    void Given_ThreadAtThreshold_When_DeleteTodo_Then_PurgesInline() {
+        // given
+        ReflectionTestUtils.setField(todoDeleteService, "backgroundThreshold", 5);
+
+        // when
+        TodoDeleteResponse response = todoDeleteService.deleteTodo(owner.getId(), todo.getId());
+
+        // then
+        assertEquals(TodoDeleteStatus.DELETED, response.getStatus());
+        assertTrue(backgroundTasks.isEmpty());
+    }
+
+    @Test
+    void Given_MarkedTodos_When_PurgeDeletedTodos_Then_HandsEachToExecutorOnce() {
+        // given
+        todoRepository.markDeleted(todo.getId());
+        entityManager.clear();
+
+        // when
+        todoDeleteService.purgeDeletedTodos();
+        todoDeleteService.purgeDeletedTodos();
+
+        // then
+        assertEquals(1, backgroundTasks.size());
+        assertEquals(5, commentRepository.count());
+        backgroundTasks.forEach(Runnable::run);
+        assertEquals(0, commentRepository.count());
+        assertTrue(todoRepository.findDeletedIds(10).isEmpty());
+    }
+
+    @Test
+    void Given_NotOwner_When_DeleteTodo_Then_ThrowsInvalidRequestException() {
+        // when & then
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
+                todoDeleteService.deleteTodo(owner.getId() + 1, todo.getId()));
+        assertEquals("Not the Owner of Todo", exception.getMessage());
+        assertTrue(todoRepository.existsById(todo.getId()));
+    }
+}
@@ -0,0 +1,108 @@
+package org.example.expert.domain.todo.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.example.expert.config.config.PersistenceConfig;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import(PersistenceConfig.class)
+class TodoExportServiceTest {
+
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private ManagerRepository managerRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @Test
+    void Given_TodosWithComments_When_ExportTodos_Then_WritesOneLinePerTodo() throws Exception {
+        // given
+        User user = userRepository.save(new User("a@a.com", "password", UserRole.USER));
+        Todo first = todoRepository.save(new Todo("first", "contents", "Sunny", user));
+        todoRepository.save(new Todo("second", "contents", "Rainy", user));
+        commentRepository.save(new Comment("comment1", user, first));
+        commentRepository.save(new Comment("comment2", user, first));
+        entityManager.flush();
+        entityManager.clear();
+
+        TodoExportService todoExportService =
+                new TodoExportService(todoRepository, commentRepository, managerRepository, objectMapper);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // when
+        long exported = todoExportService.exportTodos(outputStream);
+
+        // then
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, exported);
+        assertEquals(2, lines.length);
+
+        JsonNode firstLine = objectMapper.readTree(lines[0]);
+        assertEquals("first", firstLine.get("todo").get("title").asText());
+        assertEquals(2, firstLine.get("comments").size());
+        assertEquals(1, firstLine.get("managers").size());
+        assertEquals("a@a.com", firstLine.get("managers").get(0).get("user").get("email").asText());
+
+        JsonNode secondLine = objectMapper.readTree(lines[1]);
+        assertEquals(0, secondLine.get("comments").size());
+    }
+
+    @Test
+    void Given_CommentsOnLaterTodosOnly_When_ExportTodos_Then_EachCommentStaysWithItsTodo() throws Exception {
+        // given
+        User user = userRepository.save(new User("b@b.com", "password", UserRole.USER));
+        todoRepository.save(new Todo("empty", "contents", "Sunny", user));
+        Todo second = todoRepository.save(new Todo("second", "contents", "Sunny", user));
+        Todo third = todoRepository.save(new Todo("third", "contents", "Sunny", user));
+        commentRepository.save(new Comment("on-third", user, third));
+        commentRepository.save(new Comment("on-second", user, second));
+        commentRepository.save(new Comment("on-third-again", user, third));
+        entityManager.flush();
+        entityManager.clear();
+
+        TodoExportService todoExportService =
+                new TodoExportService(todoRepository, commentRepository, managerRepository, objectMapper);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // when
+        todoExportService.exportTodos(outputStream);
+
+        // then
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(0, objectMapper.readTree(lines[0]).get("comments").size());
+        JsonNode secondComments = objectMapper.readTree(lines[1]).get("comments");
+        assertEquals(1, secondComments.size());
+        assertEquals("on-second", secondComments.get(0).get("contents").asText());
+        JsonNode thirdComments = objectMapper.readTree(lines[2]).get("comments");
+        assertEquals(2, thirdComments.size());
+        assertEquals("on-third", thirdComments.get(0).get("contents").asText());
+    }
+}
@@ -0,0 +1,216 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class TodoServiceTest {
+
+    @Mock
+    private TodoRepository todoRepository;
+    @Mock
+    private WeatherClient weatherClient;
+    @Mock
+    private TodoCountProvider todoCountProvider;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    @InjectMocks
+    private TodoService todoService;
+
+    @Test
+    public void Given_SyncWeather_When_SaveTodo_Then_ReturnsWeather() {
+        // given
+        AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+        TodoSaveRequest request = new TodoSaveRequest("title", "contents");
+
+        given(weatherClient.getTodayWeather()).willReturn("Sunny");
+        given(todoRepository.save(any(Todo.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        TodoSaveResponse response = todoService.saveTodo(authUser, request);
+
+        // then
+        assertEquals("Sunny", response.getWeather());
+        assertFalse(response.isWeatherPending());
+    }
+
+    @Test
+    public void Given_AsyncWeather_When_SaveTodo_Then_SavesWithoutWeatherAndMarksPending() {
+        // given
+        ReflectionTestUtils.setField(todoService, "asyncWeather", true);
+        AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+        TodoSaveRequest request = new TodoSaveRequest("title", "contents");
+
+        given(todoRepository.save(any(Todo.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        TodoSaveResponse response = todoService.saveTodo(authUser, request);
+
+        // then
+        assertNull(response.getWeather());
+        assertTrue(response.isWeatherPending());
+        verify(weatherClient, never()).getTodayWeather();
+    }
+
+    @Test
+    public void Given_FastWeather_When_SaveTodoAsync_Then_SavesOnIoExecutorWithWeather() throws Exception {
+        // given
+        ExecutorService ioExecutor = Executors.newFixedThreadPool(2);
+        TodoService asyncTodoService = asyncTodoService(ioExecutor);
+        AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+
+        given(weatherClient.getTodayWeather()).willReturn("Sunny");
+        given(todoRepository.save(any(Todo.class))).willAnswer(invocation -> invocation.getArgument(0));
+        givenTransactionTemplateRunsCallback();
+
+        // when
+        TodoSaveResponse response = asyncTodoService.saveTodoAsync(authUser, new TodoSaveRequest("title", "contents"))
+                .get(5, TimeUnit.SECONDS);
+
+        // then
+        assertEquals("Sunny", response.getWeather());
+        assertFalse(response.isWeatherPending());
+        ioExecutor.shutdownNow();
+    }
+
+    @Test
+    public void Given_SlowWeather_When_SaveTodoAsync_Then_SavesWithoutWeatherAfterTimeout() throws Exception {
+        // given
+        ExecutorService ioExecutor = Executors.newFixedThreadPool(2);
+        TodoService asyncTodoService = asyncTodoService(ioExecutor);
+        ReflectionTestUtils.setField(asyncTodoService, "weatherTimeout", Duration.ofMillis(50));
+        AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+
+        given(weatherClient.getTodayWeather()).willAnswer(invocation -> {
+            Thread.sleep(1_000);
+            return "Sunny";
+        });
+        given(todoRepository.save(any(Todo.class))).willAnswer(invocation -> invocation.getArgument(0));
+        givenTransactionTemplateRunsCallback();
+
+        // when
+        TodoSaveResponse response = asyncTodoService.saveTodoAsync(authUser, new TodoSaveRequest("title", "contents"))
+                .get(500, TimeUnit.MILLISECONDS);
+
+        // then
+        assertNull(response.getWeather());
+        assertTrue(response.isWeatherPending());
+        ioExecutor.shutdownNow();
+    }
+
+    @Test
+    public void Given_WeatherLookupStillQueuedAtTimeout_When_SaveTodoAsync_Then_LookupIsSkipped() throws Exception {
+        // given
+        ExecutorService ioExecutor = Executors.newSingleThreadExecutor();
+        CountDownLatch busy = new CountDownLatch(1);
+        ioExecutor.execute(() -> {
+            try {
+                busy.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        TodoService asyncTodoService = asyncTodoService(ioExecutor);
+        ReflectionTestUtils.setField(asyncTodoService, "weatherTimeout", Duration.ofMillis(50));
+        AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+
+        given(todoRepository.save(any(Todo.class))).willAnswer(invocation -> invocation.getArgument(0));
+        givenTransactionTemplateRunsCallback();
+
+        // when
+        CompletableFuture<TodoSaveResponse> future =
+                asyncTodoService.saveTodoAsync(authUser, new TodoSaveRequest("title", "contents"));
+        Thread.sleep(100);
+        busy.countDown();
+        TodoSaveResponse response = future.get(5, TimeUnit.SECONDS);
+
+        // then
+        assertTrue(response.isWeatherPending());
+        verify(weatherClient, never()).getTodayWeather();
+        ioExecutor.shutdownNow();
+    }
+
+    @Test
+    public void Given_IoExecutorFull_When_SaveTodoAsync_Then_ThrowsServiceUnavailableException() {
+        // given
+        TodoService asyncTodoService = asyncTodoService(command -> {
+            throw new RejectedExecutionException("queue full");
+        });
+        AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+
+        // when & then
+        assertThrows(ServiceUnavailableException.class, () ->
+                asyncTodoService.saveTodoAsync(authUser, new TodoSaveRequest("title", "contents")));
+        verify(todoRepository, never()).save(any(Todo.class));
+    }
+
+    @Test
+    public void Given_ApproximateCount_When_GetTodos_Then_UsesCachedTotalWithoutCountQuery() {
+        // given
+        TodoResponse todo = new TodoResponse(1L, "title", "contents", "Sunny", 1L, "a@a.com", null, null);
+
+        given(todoRepository.findTodoResponses(any(Pageable.class))).willReturn(List.of(todo));
+        given(todoCountProvider.getApproximateCount()).willReturn(42L);
+
+        // when
+        Page<TodoResponse> result = todoService.getTodos(1, 1, false);
+
+        // then
+        assertEquals(42L, result.getTotalElements());
+        verify(todoRepository, never()).findTodoResponsePage(any(Pageable.class));
+        verify(todoRepository, never()).count();
+    }
+
+    @Test
+    public void Given_SizeAboveLimit_When_GetTodosByCursor_Then_ThrowsInvalidRequestException() {
+        // when & then
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
+                todoService.getTodosByCursor(null, Integer.MAX_VALUE));
+        assertEquals("size 는 1 이상 100 이하여야 합니다.", exception.getMessage());
+        verifyNoInteractions(todoRepository);
+    }
+
+    private void givenTransactionTemplateRunsCallback() {
+        given(transactionTemplate.execute(any())).willAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    private TodoService asyncTodoService(Executor ioExecutor) {
+        return new TodoService(todoRepository, weatherClient, todoCountProvider, transactionTemplate, ioExecutor);
+    }
+}
@@ -0,0 +1,63 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TodoWeatherEnricherTest {
+
+    @Mock
+    private TodoRepository todoRepository;
+    @Mock
+    private WeatherClient weatherClient;
+    @InjectMocks
+    private TodoWeatherEnricher todoWeatherEnricher;
+
+    @Test
+    void Given_DateMissingFromWeatherData_When_EnrichPendingWeather_Then_SkipsItAndFillsLaterDates() {
+        // given
+        LocalDate leapDay = LocalDate.of(2024, 2, 29);
+        LocalDate nextDay = LocalDate.of(2024, 3, 1);
+        given(todoRepository.findWeatherPendingDates()).willReturn(List.of(leapDay, nextDay));
+        given(weatherClient.findRecordedWeather(leapDay)).willReturn(Optional.empty());
+        given(weatherClient.findRecordedWeather(nextDay)).willReturn(Optional.of("Sunny"));
+
+        // when
+        todoWeatherEnricher.enrichPendingWeather();
+
+        // then
+        verify(todoRepository).updatePendingWeather("Sunny", nextDay.atStartOfDay(), nextDay.plusDays(1).atStartOfDay());
+        verify(todoRepository, never()).updatePendingWeather(anyString(), eq(leapDay.atStartOfDay()), any());
+    }
+
+    @Test
+    void Given_WeatherUnavailable_When_EnrichPendingWeather_Then_UpdatesNothing() {
+        // given
+        LocalDate date = LocalDate.of(2024, 3, 1);
+        given(todoRepository.findWeatherPendingDates()).willReturn(List.of(date));
+        given(weatherClient.findRecordedWeather(date)).willThrow(new ServerException("날씨 데이터가 없습니다."));
+
+        // when
+        todoWeatherEnricher.enrichPendingWeather();
+
+        // then
+        verify(todoRepository, never()).updatePendingWeather(any(), any(), any());
+    }
+}
@@ -0,0 +1,124 @@
+package org.example.expert.domain.user.repository;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.expert.config.config.PersistenceConfig;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.support.StatementCountConfig;
+import org.example.expert.support.StatementCounter;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// READ_WRITE 캐시는 커밋된 데이터만 담으므로 테스트 트랜잭션 없이 실행하고 직접 정리
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({PersistenceConfig.class, StatementCountConfig.class})
+class UserSecondLevelCacheTest {
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private ManagerRepository managerRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private StatementCounter statementCounter;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            managerRepository.deleteAllInBatch();
+            todoRepository.deleteAllInBatch();
+            userRepository.deleteAllInBatch();
+        });
+    }
+
+    @Test
+    void Given_WarmedCache_When_FindById_Then_NoSql() {
+        // given
+        User user = userRepository.save(new User("a@a.com", "password", UserRole.USER));
+        Todo todo = todoRepository.save(new Todo("title", "contents", "Sunny", user));
+        userRepository.findById(user.getId()); // 캐시 적재
+        todoRepository.findById(todo.getId());
+        statementCounter.reset();
+
+        // when
+        User cachedUser = userRepository.findById(user.getId()).orElseThrow();
+        Todo cachedTodo = todoRepository.findById(todo.getId()).orElseThrow();
+
+        // then
+        assertEquals("a@a.com", cachedUser.getEmail());
+        assertEquals("title", cachedTodo.getTitle());
+        assertEquals(0, statementCounter.getTotal());
+        assertEquals(2, statistics.getDomainDataRegionStatistics(PersistenceConfig.USERS_REGION).getHitCount()
+                + statistics.getDomainDataRegionStatistics(PersistenceConfig.TODOS_REGION).getHitCount());
+    }
+
+    @Test
+    void Given_RowChangedOutsideThisNode_When_FindCredentialsByEmail_Then_ReadsDatabaseNotCache() {
+        // given
+        User user = userRepository.save(new User("b@b.com", "password", UserRole.ADMIN));
+        userRepository.findById(user.getId()); // 캐시 적재
+        // 다른 노드에서 권한이 바뀐 상황, Hibernate 를 거치지 않으므로 이 노드의 캐시는 그대로 남음
+        jdbcTemplate.update("UPDATE users SET user_role = 'USER' WHERE id = ?", user.getId());
+        assertEquals(UserRole.ADMIN, userRepository.findById(user.getId()).orElseThrow().getUserRole());
+
+        // when
+        User credentials = userRepository.findCredentialsByEmail("b@b.com").orElseThrow();
+
+        // then
+        assertEquals(UserRole.USER, credentials.getUserRole());
+    }
+
+    @Test
+    void Given_WarmedNaturalIdCache_When_FindCredentialsByEmail_Then_ResolvesIdFromCacheAndLoadsRowOnly() {
+        // given
+        User user = userRepository.save(new User("c@c.com", "password", UserRole.USER));
+        userRepository.findCredentialsByEmail("c@c.com"); // email -> id 캐시 적재
+        statistics.clear();
+        statementCounter.reset();
+
+        // when
+        User credentials = userRepository.findCredentialsByEmail("c@c.com").orElseThrow();
+
+        // then
+        assertEquals(user.getId(), credentials.getId());
+        assertTrue(statistics.getNaturalIdStatistics(User.class.getName()).getCacheHitCount() > 0);
+        assertEquals(1, statementCounter.getTotal()); // id 조회 없이 행만 읽음
+    }
+
+    @Test
+    void Given_UnknownEmail_When_FindCredentialsByEmail_Then_Empty() {
+        assertTrue(userRepository.findCredentialsByEmail("none@none.com").isEmpty());
+    }
+}
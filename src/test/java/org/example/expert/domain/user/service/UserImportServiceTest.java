@@ -0,0 +1,165 @@
+package org.example.expert.domain.user.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import org.example.expert.config.PasswordEncoder;
+import org.example.expert.config.config.PersistenceConfig;
+import org.example.expert.domain.user.dto.response.UserImportFailureResponse;
+import org.example.expert.domain.user.dto.response.UserImportResponse;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserImportFormat;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.support.StatementCountConfig;
+import org.example.expert.support.StatementCounter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import({PersistenceConfig.class, StatementCountConfig.class})
+class UserImportServiceTest {
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private StatementCounter statementCounter;
+
+    private final ExecutorService passwordHashExecutor = Executors.newFixedThreadPool(2);
+    private PasswordEncoder passwordEncoder;
+    private UserImportService userImportService;
+
+    @BeforeEach
+    void setUp() {
+        passwordEncoder = new PasswordEncoder(passwordHashExecutor, new SimpleMeterRegistry(),
+                Duration.ofSeconds(5), Duration.ofSeconds(1));
+        userImportService = new UserImportService(userRepository, passwordEncoder,
+                new TransactionTemplate(transactionManager), entityManager,
+                Validation.buildDefaultValidatorFactory().getValidator(), new ObjectMapper());
+        ReflectionTestUtils.setField(userImportService, "chunkSize", 50);
+    }
+
+    @AfterEach
+    void tearDown() {
+        passwordHashExecutor.shutdownNow();
+    }
+
+    @Test
+    void Given_ManyCsvRows_When_ImportUsers_Then_EmailCheckAndInsertsArePerChunk() throws Exception {
+        // given
+        StringBuilder csv = new StringBuilder("email,password,userRole\n");
+        for (int i = 0; i < 100; i++) {
+            csv.append("user").append(i).append("@a.com,pass,word").append(i).append(",USER\n");
+        }
+        // pooled sequence 는 처음에 두 번 읽으므로 미리 발급받아 둠
+        userRepository.saveAll(List.of(
+                new User("warm1@a.com", "password", UserRole.USER),
+                new User("warm2@a.com", "password", UserRole.USER)));
+        entityManager.flush();
+        statementCounter.reset();
+
+        // when
+        UserImportResponse response = userImportService.importUsers(stream(csv.toString()), UserImportFormat.CSV);
+
+        // then
+        assertEquals(100, response.getRequested());
+        assertEquals(100, response.getImported());
+        assertTrue(response.getFailures().isEmpty());
+        // chunk 2개 x (이메일 IN 조회 1번 + insert batch 1번)
+        assertEquals(2, statementCounter.getInserts());
+        User user = userRepository.findByEmail("user7@a.com").orElseThrow();
+        assertTrue(passwordEncoder.matches("pass,word7", user.getPassword()));
+    }
+
+    @Test
+    void Given_InvalidRows_When_ImportUsers_Then_ReportsFailuresByLineAndSavesRest() throws Exception {
+        // given
+        userRepository.save(new User("exists@a.com", "password", UserRole.USER));
+        entityManager.flush();
+        String csv = """
+                email,password,userRole
+                new1@a.com,password,USER
+                exists@a.com,password,USER
+                not-an-email,password,USER
+                new2@a.com,password,OWNER
+                new1@a.com,password,ADMIN
+                new3@a.com
+                new4@a.com,password,admin
+                """;
+
+        // when
+        UserImportResponse response = userImportService.importUsers(stream(csv), UserImportFormat.CSV);
+
+        // then
+        assertEquals(7, response.getRequested());
+        assertEquals(2, response.getImported());
+        assertEquals(List.of(3, 4, 5, 6, 7), response.getFailures().stream().map(UserImportFailureResponse::getLine).toList());
+        assertEquals("이미 존재하는 이메일입니다.", response.getFailures().get(0).getMessage());
+        assertEquals("파일 안에서 중복된 이메일입니다.", response.getFailures().get(3).getMessage());
+        assertEquals(UserRole.ADMIN, userRepository.findByEmail("new4@a.com").orElseThrow().getUserRole());
+    }
+
+    @Test
+    void Given_NdjsonRows_When_ImportUsers_Then_SkipsMalformedLine() throws Exception {
+        // given
+        String ndjson = """
+                {"email":"a@a.com","password":"password","userRole":"USER"}
+                {"email":"b@a.com",
+                {"email":"c@a.com","password":"password","userRole":"ADMIN"}
+                """;
+
+        // when
+        UserImportResponse response = userImportService.importUsers(stream(ndjson), UserImportFormat.NDJSON);
+
+        // then
+        assertEquals(3, response.getRequested());
+        assertEquals(2, response.getImported());
+        assertEquals(2, response.getFailures().get(0).getLine());
+        assertTrue(userRepository.existsByEmail("c@a.com"));
+    }
+
+    @Test
+    void Given_PaddedEmail_When_ImportUsers_Then_StoresItTrimmedLikeSignup() throws Exception {
+        // given
+        userRepository.save(new User("exists@a.com", "password", UserRole.USER));
+        entityManager.flush();
+        String csv = """
+                 new@a.com ,password,USER
+                 exists@a.com,password,USER
+                """;
+
+        // when
+        UserImportResponse response = userImportService.importUsers(stream(csv), UserImportFormat.CSV);
+
+        // then
+        assertEquals(1, response.getImported());
+        assertEquals("이미 존재하는 이메일입니다.", response.getFailures().get(0).getMessage());
+        assertTrue(userRepository.existsByEmail("new@a.com"));
+    }
+
+    private InputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,66 @@
+package org.example.expert.support;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// JDBC round trip 수를 SQL 종류별로 센다 (batch 실행은 한 번으로 셈)
+public class StatementCounter implements QueryExecutionListener {
+
+    private final AtomicInteger selects = new AtomicInteger();
+    private final AtomicInteger inserts = new AtomicInteger();
+    private final AtomicInteger updates = new AtomicInteger();
+    private final AtomicInteger deletes = new AtomicInteger();
+    private final AtomicInteger total = new AtomicInteger();
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        total.incrementAndGet();
+        String sql = queryInfoList.get(0).getQuery().trim().toLowerCase(Locale.ROOT);
+        if (sql.startsWith("select")) {
+            selects.incrementAndGet();
+        } else if (sql.startsWith("insert")) {
+            inserts.incrementAndGet();
+        } else if (sql.startsWith("update")) {
+            updates.incrementAndGet();
+        } else if (sql.startsWith("delete")) {
+            deletes.incrementAndGet();
+        }
+    }
+
+    public void reset() {
+        selects.set(0);
+        inserts.set(0);
+        updates.set(0);
+        deletes.set(0);
+        total.set(0);
+    }
+
+    public int getSelects() {
+        return selects.get();
+    }
+
+    public int getInserts() {
+        return inserts.get();
+    }
+
+    public int getUpdates() {
+        return updates.get();
+    }
+
+    public int getDeletes() {
+        return deletes.get();
+    }
+
+    public int getTotal() {
+        return total.get();
+    }
+}